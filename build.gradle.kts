@@ -2,6 +2,7 @@
 
 plugins {
     id("org.openrewrite.build.recipe-library") version "latest.release"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "org.openrewrite.recipe"
@@ -58,6 +59,36 @@ dependencies {
     testRuntimeOnly("jakarta.annotation:jakarta.annotation-api:2.1.1")
     testRuntimeOnly("com.google.code.findbugs:jsr305:3.0.2")
     testRuntimeOnly(gradleApi())
+
+    jmh("org.openrewrite:rewrite-test")
+    jmh("org.projectlombok:lombok:latest.release")
+    jmh("com.google.guava:guava:33.0.0-jre")
+    jmh("joda-time:joda-time:2.12.3")
+    jmhAnnotationProcessor("org.openjdk.jmh:jmh-generator-annprocess:latest.release")
+    jmhAnnotationProcessor("org.projectlombok:lombok:latest.release")
+}
+
+jmh {
+    fork.set(1)
+    warmupIterations.set(2)
+    iterations.set(5)
+    profilers.add("gc")
+    resultFormat.set("JSON")
+    // e.g. `./gradlew jmh -PjmhIncludes=UseTextBlocks`
+    providers.gradleProperty("jmhIncludes").orNull?.let { includes.add(it) }
+}
+
+// e.g. `./gradlew macroBenchmark -Pmacro.modules=100 -Pmacro.baseline=macro-baseline.csv`
+tasks.register<JavaExec>("macroBenchmark") {
+    group = "benchmark"
+    description = "Times the composite migration recipes end to end over a synthetic multi-module corpus."
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("org.openrewrite.java.migrate.benchmarks.CompositeRecipeMacroBenchmark")
+    maxHeapSize = "4g"
+    args(layout.buildDirectory.file("reports/macro-benchmark.csv").get().asFile.path)
+    listOf("modules", "classesPerModule", "warmups", "repetitions", "recipes", "baseline", "tolerance").forEach { name ->
+        providers.gradleProperty("macro.$name").orNull?.let { systemProperty("macro.$name", it) }
+    }
 }
 
 tasks.withType(Javadoc::class.java) {
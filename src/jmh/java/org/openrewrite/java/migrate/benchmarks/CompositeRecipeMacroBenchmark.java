@@ -0,0 +1,183 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.benchmarks;
+
+import lombok.Value;
+import org.openrewrite.*;
+import org.openrewrite.config.Environment;
+import org.openrewrite.internal.InMemoryLargeSourceSet;
+import org.openrewrite.table.SourcesFileResults;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Runs the composite migration recipes end to end over a {@link SyntheticCorpus}, the same way
+ * {@code RewriteTest} does, and reports wall time, allocated bytes and the number of changed files per cycle.
+ * <p>
+ * Configured through system properties:
+ * <ul>
+ *     <li>{@code macro.modules}, {@code macro.classesPerModule}: corpus size</li>
+ *     <li>{@code macro.warmups}, {@code macro.repetitions}: how often each recipe is run; the median is reported</li>
+ *     <li>{@code macro.recipes}: comma separated recipe names, defaults to {@link #DEFAULT_RECIPES}</li>
+ *     <li>{@code macro.baseline}: a CSV written by an earlier run; exits non-zero when a recipe regressed</li>
+ *     <li>{@code macro.tolerance}: the allowed relative regression over the baseline, defaults to {@code 0.25}</li>
+ * </ul>
+ * The results are written as CSV to the path given as the first argument, so they can serve as the next baseline.
+ */
+public class CompositeRecipeMacroBenchmark {
+
+    static final List<String> DEFAULT_RECIPES = Arrays.asList(
+            "org.openrewrite.java.migrate.UpgradeToJava17",
+            "org.openrewrite.java.migrate.UpgradeToJava21",
+            "org.openrewrite.java.migrate.jakarta.JakartaEE10",
+            "org.openrewrite.java.migrate.guava.NoGuava"
+    );
+
+    private static final String CSV_HEADER = "recipe,wallTimeMillis,allocatedBytes,changedFilesPerCycle";
+
+    public static void main(String[] args) {
+        Path output = Paths.get(args.length > 0 ? args[0] : "build/reports/macro-benchmark.csv");
+        int modules = Integer.getInteger("macro.modules", 20);
+        int classesPerModule = Integer.getInteger("macro.classesPerModule", 10);
+        int warmups = Integer.getInteger("macro.warmups", 1);
+        int repetitions = Integer.getInteger("macro.repetitions", 3);
+        List<String> recipeNames = Optional.ofNullable(System.getProperty("macro.recipes"))
+                .map(names -> Arrays.asList(names.split(",")))
+                .orElse(DEFAULT_RECIPES);
+
+        List<SourceFile> corpus = SyntheticCorpus.generate(modules, classesPerModule);
+        System.out.printf("Generated %d source files in %d modules%n", corpus.size(), modules);
+
+        Environment env = Environment.builder().scanRuntimeClasspath("org.openrewrite").build();
+        List<Result> results = new ArrayList<>();
+        for (String recipeName : recipeNames) {
+            Recipe recipe = env.activateRecipes(recipeName.trim());
+            for (int i = 0; i < warmups; i++) {
+                measure(recipeName, recipe, corpus);
+            }
+            List<Result> measured = new ArrayList<>();
+            for (int i = 0; i < repetitions; i++) {
+                measured.add(measure(recipeName, recipe, corpus));
+            }
+            measured.sort(Comparator.comparingLong(Result::getWallTimeMillis));
+            Result median = measured.get(measured.size() / 2);
+            System.out.println(median);
+            results.add(median);
+        }
+        write(output, results);
+
+        String baseline = System.getProperty("macro.baseline");
+        if (baseline != null) {
+            double tolerance = Double.parseDouble(System.getProperty("macro.tolerance", "0.25"));
+            List<String> regressions = regressions(read(Paths.get(baseline)), results, tolerance);
+            if (!regressions.isEmpty()) {
+                regressions.forEach(System.err::println);
+                System.exit(1);
+            }
+        }
+    }
+
+    static Result measure(String recipeName, Recipe recipe, List<SourceFile> corpus) {
+        ExecutionContext ctx = new InMemoryExecutionContext(Throwable::printStackTrace);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        RecipeRun run = recipe.run(new InMemoryLargeSourceSet(corpus), ctx, 3);
+        long wallTimeMillis = (System.nanoTime() - start) / 1_000_000;
+        long allocatedBytes = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        Map<Integer, Long> changedFilesPerCycle = new TreeMap<>();
+        List<SourcesFileResults.Row> rows = run.getDataTableRows(SourcesFileResults.class.getName());
+        for (SourcesFileResults.Row row : rows) {
+            changedFilesPerCycle.merge(row.getCycle(), 1L, Long::sum);
+        }
+        return new Result(recipeName, wallTimeMillis, allocatedBytes, changedFilesPerCycle.values().stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(";")));
+    }
+
+    static List<String> regressions(Map<String, Result> baseline, List<Result> results, double tolerance) {
+        List<String> regressions = new ArrayList<>();
+        for (Result result : results) {
+            Result before = baseline.get(result.getRecipe());
+            if (before == null) {
+                continue;
+            }
+            if (result.getWallTimeMillis() > before.getWallTimeMillis() * (1 + tolerance)) {
+                regressions.add(String.format("%s: wall time regressed from %d ms to %d ms",
+                        result.getRecipe(), before.getWallTimeMillis(), result.getWallTimeMillis()));
+            }
+            if (result.getAllocatedBytes() > before.getAllocatedBytes() * (1 + tolerance)) {
+                regressions.add(String.format("%s: allocated bytes regressed from %d to %d",
+                        result.getRecipe(), before.getAllocatedBytes(), result.getAllocatedBytes()));
+            }
+        }
+        return regressions;
+    }
+
+    private static void write(Path output, List<Result> results) {
+        List<String> lines = new ArrayList<>();
+        lines.add(CSV_HEADER);
+        for (Result result : results) {
+            lines.add(String.join(",", result.getRecipe(), Long.toString(result.getWallTimeMillis()),
+                    Long.toString(result.getAllocatedBytes()), result.getChangedFilesPerCycle()));
+        }
+        try {
+            Files.createDirectories(output.toAbsolutePath().getParent());
+            Files.write(output, lines);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Map<String, Result> read(Path baseline) {
+        try {
+            Map<String, Result> results = new HashMap<>();
+            for (String line : Files.readAllLines(baseline)) {
+                if (line.isEmpty() || CSV_HEADER.equals(line)) {
+                    continue;
+                }
+                String[] columns = line.split(",", -1);
+                results.put(columns[0], new Result(columns[0], Long.parseLong(columns[1]),
+                        Long.parseLong(columns[2]), columns[3]));
+            }
+            return results;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Value
+    static class Result {
+        String recipe;
+        long wallTimeMillis;
+        long allocatedBytes;
+
+        /**
+         * The number of source files changed in each cycle, separated by {@code ;}.
+         */
+        String changedFilesPerCycle;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.migrate.joda.JodaTimeVisitor;
+import org.openrewrite.java.tree.J;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class JodaTimeVisitorBenchmark {
+
+    @Param({"10", "100"})
+    int sourceFileCount;
+
+    @Param({"10", "100"})
+    int invocationsPerFile;
+
+    List<J.CompilationUnit> sourceFiles;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        sourceFiles = SourceFiles.parse(JavaParser.fromJavaVersion().classpath("joda-time"), 8, sourceFileCount, i -> {
+            StringBuilder body = new StringBuilder();
+            for (int n = 0; n < invocationsPerFile; n++) {
+                body.append("        System.out.println(new DateTime(").append(n).append("L, DateTimeZone.forID(\"UTC\")).plusDays(").append(n).append("));\n")
+                        .append("        System.out.println(new DateTime().minus(Duration.standardHours(").append(n).append(")).toDateTime());\n");
+            }
+            return "import org.joda.time.DateTime;\n" +
+                   "import org.joda.time.DateTimeZone;\n" +
+                   "import org.joda.time.Duration;\n" +
+                   "\n" +
+                   "class Joda" + i + " {\n" +
+                   "    void foo() {\n" +
+                   body +
+                   "    }\n" +
+                   "}\n";
+        });
+    }
+
+    @Benchmark
+    public void jodaTimeVisitor(Blackhole blackhole) {
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        JodaTimeVisitor visitor = new JodaTimeVisitor();
+        for (J.CompilationUnit cu : sourceFiles) {
+            blackhole.consume(visitor.visit(cu, ctx));
+        }
+    }
+}
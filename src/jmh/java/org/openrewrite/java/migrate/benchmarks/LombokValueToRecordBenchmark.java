@@ -0,0 +1,72 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.migrate.lombok.LombokValueToRecord;
+import org.openrewrite.java.tree.J;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class LombokValueToRecordBenchmark {
+
+    @Param({"10", "100"})
+    int sourceFileCount;
+
+    /**
+     * One in this many source files declares a {@code @Value} class, the others only use them.
+     */
+    @Param({"1", "10"})
+    int valueClassEvery;
+
+    List<J.CompilationUnit> sourceFiles;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        sourceFiles = SourceFiles.parse(JavaParser.fromJavaVersion().classpath("lombok"), 17, sourceFileCount, i -> {
+            if (i % valueClassEvery == 0) {
+                return "package com.example;\n" +
+                       "\n" +
+                       "import lombok.Value;\n" +
+                       "\n" +
+                       "@Value\n" +
+                       "public class Value" + i + " {\n" +
+                       "    String name;\n" +
+                       "    int count;\n" +
+                       "}\n";
+            }
+            int valueClass = i - i % valueClassEvery;
+            return "package com.example;\n" +
+                   "\n" +
+                   "class User" + i + " {\n" +
+                   "    String describe(Value" + valueClass + " value) {\n" +
+                   "        return value.getName() + value.getCount() + value.toString();\n" +
+                   "    }\n" +
+                   "}\n";
+        });
+    }
+
+    @Benchmark
+    public void lombokValueToRecord(Blackhole blackhole) {
+        SourceFiles.scanAndEdit(new LombokValueToRecord(false), sourceFiles, blackhole);
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.migrate.MethodPatternIndex;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dispatches the method invocations of invocation-dense code on the method patterns of `JodaTimeVisitor`, by
+ * evaluating each {@link MethodMatcher} in turn as the visitor used to, and by looking them up in a
+ * {@link MethodPatternIndex} with and without its memo. Each run builds its matchers, as every visitor does, so the
+ * memo starts out empty.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class MethodPatternIndexBenchmark {
+
+    private static final String[] PATTERNS = {
+            "org.joda.time.DateTimeZone for*(..)",
+            "org.joda.time.DateTime *(..)",
+            "org.joda.time.base.BaseDateTime *(..)",
+            "org.joda.time.format.DateTimeFormat *(..)",
+            "org.joda.time.Duration *(..)",
+            "java.util.List add(..)",
+            "java.lang.String format(..)"
+    };
+
+    @Param({"10", "1000"})
+    int invocationsPerFile;
+
+    List<J.MethodInvocation> invocations;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        List<J.CompilationUnit> sourceFiles = SourceFiles.parse(JavaParser.fromJavaVersion().classpath("joda-time"), 8, 10, i -> {
+            StringBuilder body = new StringBuilder();
+            for (int n = 0; n < invocationsPerFile; n++) {
+                body.append("        DateTime d").append(n).append(" = DateTime.now(DateTimeZone.forID(\"UTC\")).plusDays(").append(n).append(");\n")
+                        .append("        names.add(String.valueOf(d").append(n).append(".getDayOfMonth()).trim().toUpperCase());\n")
+                        .append("        System.out.println(Duration.standardHours(").append(n).append(").getMillis());\n");
+            }
+            return "import java.util.ArrayList;\n" +
+                   "import java.util.List;\n" +
+                   "import org.joda.time.DateTime;\n" +
+                   "import org.joda.time.DateTimeZone;\n" +
+                   "import org.joda.time.Duration;\n" +
+                   "\n" +
+                   "class Invocations" + i + " {\n" +
+                   "    void foo() {\n" +
+                   "        List<String> names = new ArrayList<>();\n" +
+                   body +
+                   "    }\n" +
+                   "}\n";
+        });
+        invocations = new ArrayList<>();
+        for (J.CompilationUnit cu : sourceFiles) {
+            new JavaIsoVisitor<List<J.MethodInvocation>>() {
+                @Override
+                public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, List<J.MethodInvocation> found) {
+                    found.add(method);
+                    return super.visitMethodInvocation(method, found);
+                }
+            }.visit(cu, invocations);
+        }
+    }
+
+    @Benchmark
+    public void methodMatchers(Blackhole blackhole) {
+        MethodMatcher[] matchers = new MethodMatcher[PATTERNS.length];
+        for (int i = 0; i < PATTERNS.length; i++) {
+            matchers[i] = new MethodMatcher(PATTERNS[i]);
+        }
+        for (J.MethodInvocation invocation : invocations) {
+            int matched = -1;
+            for (int i = 0; i < matchers.length; i++) {
+                if (matchers[i].matches(invocation)) {
+                    matched = i;
+                    break;
+                }
+            }
+            blackhole.consume(matched);
+        }
+    }
+
+    @Benchmark
+    public void methodPatternIndex(Blackhole blackhole) {
+        MethodPatternIndex index = index();
+        for (J.MethodInvocation invocation : invocations) {
+            blackhole.consume(index.first(invocation));
+        }
+    }
+
+    @Benchmark
+    public void methodPatternIndexWithoutMemo(Blackhole blackhole) {
+        MethodPatternIndex index = index();
+        for (J.MethodInvocation invocation : invocations) {
+            JavaType.Method method = invocation.getMethodType();
+            blackhole.consume(method == null ? -1 : index.first(method, -1));
+        }
+    }
+
+    private static MethodPatternIndex index() {
+        MethodPatternIndex index = new MethodPatternIndex();
+        for (String pattern : PATTERNS) {
+            index.add(pattern, false);
+        }
+        return index;
+    }
+}
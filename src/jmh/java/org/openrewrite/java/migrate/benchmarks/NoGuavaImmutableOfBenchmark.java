@@ -0,0 +1,80 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.migrate.guava.NoGuavaImmutableListOf;
+import org.openrewrite.java.migrate.guava.NoGuavaImmutableMapOf;
+import org.openrewrite.java.migrate.guava.NoGuavaImmutableSetOf;
+import org.openrewrite.java.tree.J;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class NoGuavaImmutableOfBenchmark {
+
+    @Param({"10", "100"})
+    int sourceFileCount;
+
+    @Param({"10", "100"})
+    int invocationsPerFile;
+
+    List<J.CompilationUnit> sourceFiles;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        sourceFiles = SourceFiles.parse(JavaParser.fromJavaVersion().classpath("guava"), 11, sourceFileCount, i -> {
+            StringBuilder body = new StringBuilder();
+            for (int n = 0; n < invocationsPerFile; n++) {
+                body.append("        List<String> l").append(n).append(" = ImmutableList.of(\"a\", \"b\");\n")
+                        .append("        Set<String> s").append(n).append(" = ImmutableSet.of(\"a\", \"b\");\n")
+                        .append("        Map<String, Integer> m").append(n).append(" = ImmutableMap.of(\"a\", ").append(n).append(");\n");
+            }
+            return "import com.google.common.collect.ImmutableList;\n" +
+                   "import com.google.common.collect.ImmutableMap;\n" +
+                   "import com.google.common.collect.ImmutableSet;\n" +
+                   "import java.util.List;\n" +
+                   "import java.util.Map;\n" +
+                   "import java.util.Set;\n" +
+                   "\n" +
+                   "class Immutables" + i + " {\n" +
+                   "    void method() {\n" +
+                   body +
+                   "    }\n" +
+                   "}\n";
+        });
+    }
+
+    @Benchmark
+    public void noGuavaImmutableListOf(Blackhole blackhole) {
+        SourceFiles.edit(new NoGuavaImmutableListOf(), sourceFiles, blackhole);
+    }
+
+    @Benchmark
+    public void noGuavaImmutableSetOf(Blackhole blackhole) {
+        SourceFiles.edit(new NoGuavaImmutableSetOf(), sourceFiles, blackhole);
+    }
+
+    @Benchmark
+    public void noGuavaImmutableMapOf(Blackhole blackhole) {
+        SourceFiles.edit(new NoGuavaImmutableMapOf(), sourceFiles, blackhole);
+    }
+}
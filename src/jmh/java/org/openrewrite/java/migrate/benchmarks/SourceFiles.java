@@ -0,0 +1,78 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.benchmarks;
+
+import org.openjdk.jmh.infra.Blackhole;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.marker.JavaVersion;
+import org.openrewrite.java.tree.J;
+
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.openrewrite.Tree.randomId;
+
+/**
+ * Parses the LSTs a benchmark runs over once per trial, so that measurements only cover visitor execution.
+ */
+final class SourceFiles {
+
+    private SourceFiles() {
+    }
+
+    /**
+     * @param parser          the parser, including any classpath or stubs the sources depend on
+     * @param javaVersion     the major version placed in the {@link JavaVersion} marker of every compilation unit
+     * @param sourceFileCount the number of compilation units to generate
+     * @param source          generates the source text of the i-th compilation unit
+     */
+    static List<J.CompilationUnit> parse(JavaParser.Builder<?, ?> parser, int javaVersion,
+                                         int sourceFileCount, IntFunction<String> source) {
+        JavaVersion marker = new JavaVersion(randomId(), "openjdk", "adoptium",
+                Integer.toString(javaVersion), Integer.toString(javaVersion));
+        ExecutionContext ctx = new InMemoryExecutionContext(Throwable::printStackTrace);
+        String[] sources = IntStream.range(0, sourceFileCount).mapToObj(source).toArray(String[]::new);
+        return parser.build()
+                .parse(ctx, sources)
+                .map(J.CompilationUnit.class::cast)
+                .map(cu -> cu.withMarkers(cu.getMarkers().add(marker)))
+                .collect(Collectors.toList());
+    }
+
+    static void edit(Recipe recipe, List<? extends SourceFile> sourceFiles, Blackhole blackhole) {
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        TreeVisitor<?, ExecutionContext> visitor = recipe.getVisitor();
+        for (SourceFile sourceFile : sourceFiles) {
+            blackhole.consume(visitor.visit(sourceFile, ctx));
+        }
+    }
+
+    static <T> void scanAndEdit(ScanningRecipe<T> recipe, List<? extends SourceFile> sourceFiles, Blackhole blackhole) {
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        T acc = recipe.getInitialValue(ctx);
+        TreeVisitor<?, ExecutionContext> scanner = recipe.getScanner(acc);
+        for (SourceFile sourceFile : sourceFiles) {
+            scanner.visit(sourceFile, ctx);
+        }
+        TreeVisitor<?, ExecutionContext> visitor = recipe.getVisitor(acc);
+        for (SourceFile sourceFile : sourceFiles) {
+            blackhole.consume(visitor.visit(sourceFile, ctx));
+        }
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.benchmarks;
+
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.Parser;
+import org.openrewrite.SourceFile;
+import org.openrewrite.gradle.GradleParser;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.marker.JavaProject;
+import org.openrewrite.java.marker.JavaVersion;
+import org.openrewrite.marker.Markers;
+import org.openrewrite.maven.MavenParser;
+import org.openrewrite.xml.XmlParser;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.openrewrite.Tree.randomId;
+
+/**
+ * Generates a deterministic multi-module Java 8 / Java EE 8 code base, so that the composite migration recipes can be
+ * timed over something that resembles a real monorepo. Even-numbered modules are built with Maven, odd-numbered ones
+ * with Gradle.
+ */
+final class SyntheticCorpus {
+
+    private SyntheticCorpus() {
+    }
+
+    static List<SourceFile> generate(int moduleCount, int classesPerModule) {
+        ExecutionContext ctx = new InMemoryExecutionContext(Throwable::printStackTrace);
+        List<Parser.Input> poms = new ArrayList<>();
+        List<Parser.Input> gradleBuilds = new ArrayList<>();
+        List<Parser.Input> xml = new ArrayList<>();
+        List<Parser.Input> java = new ArrayList<>();
+        for (int m = 0; m < moduleCount; m++) {
+            String module = "module-" + m;
+            if (m % 2 == 0) {
+                poms.add(input(module + "/pom.xml", pom(module)));
+            } else {
+                gradleBuilds.add(input(module + "/build.gradle", buildGradle()));
+            }
+            xml.add(input(module + "/src/main/resources/META-INF/persistence.xml", persistenceXml(m)));
+            xml.add(input(module + "/src/main/webapp/WEB-INF/beans.xml", beansXml()));
+            for (int c = 0; c < classesPerModule; c++) {
+                String pkg = "com.example.m" + m;
+                String dir = module + "/src/main/java/com/example/m" + m + "/";
+                java.add(input(dir + "Entity" + c + ".java", entity(pkg, c)));
+                java.add(input(dir + "JodaUser" + c + ".java", jodaUser(pkg, c)));
+                java.add(input(dir + "GuavaUser" + c + ".java", guavaUser(pkg, c)));
+                java.add(input(dir + "Servlet" + c + ".java", servlet(pkg, c)));
+            }
+        }
+
+        List<SourceFile> sourceFiles = new ArrayList<>();
+        sourceFiles.addAll(MavenParser.builder().build().parseInputs(poms, null, ctx).collect(Collectors.toList()));
+        sourceFiles.addAll(GradleParser.builder().build().parseInputs(gradleBuilds, null, ctx).collect(Collectors.toList()));
+        sourceFiles.addAll(XmlParser.builder().build().parseInputs(xml, null, ctx).collect(Collectors.toList()));
+        sourceFiles.addAll(JavaParser.fromJavaVersion()
+                .classpath("joda-time", "guava")
+                .classpathFromResources(ctx, "javax.persistence-api-2.2", "javax.servlet-3.0")
+                .build()
+                .parseInputs(java, null, ctx)
+                .collect(Collectors.toList()));
+
+        JavaVersion javaVersion = new JavaVersion(randomId(), "openjdk", "adoptium", "1.8", "1.8");
+        return sourceFiles.stream()
+                .map(sourceFile -> {
+                    Markers markers = sourceFile.getMarkers()
+                            .add(new JavaProject(randomId(), moduleOf(sourceFile.getSourcePath()), null));
+                    if (sourceFile.getSourcePath().toString().endsWith(".java")) {
+                        markers = markers.add(javaVersion);
+                    }
+                    return sourceFile.<SourceFile>withMarkers(markers);
+                })
+                .collect(Collectors.toList());
+    }
+
+    private static String moduleOf(Path sourcePath) {
+        return sourcePath.getName(0).toString();
+    }
+
+    private static Parser.Input input(String path, String source) {
+        return Parser.Input.fromString(Paths.get(path), source);
+    }
+
+    private static String pom(String module) {
+        //language=xml
+        return "<project>\n" +
+               "    <modelVersion>4.0.0</modelVersion>\n" +
+               "    <groupId>com.example</groupId>\n" +
+               "    <artifactId>" + module + "</artifactId>\n" +
+               "    <version>1.0.0</version>\n" +
+               "    <properties>\n" +
+               "        <maven.compiler.source>1.8</maven.compiler.source>\n" +
+               "        <maven.compiler.target>1.8</maven.compiler.target>\n" +
+               "    </properties>\n" +
+               "    <dependencies>\n" +
+               "        <dependency>\n" +
+               "            <groupId>javax.xml.bind</groupId>\n" +
+               "            <artifactId>jaxb-api</artifactId>\n" +
+               "            <version>2.3.1</version>\n" +
+               "        </dependency>\n" +
+               "        <dependency>\n" +
+               "            <groupId>javax.persistence</groupId>\n" +
+               "            <artifactId>javax.persistence-api</artifactId>\n" +
+               "            <version>2.2</version>\n" +
+               "        </dependency>\n" +
+               "        <dependency>\n" +
+               "            <groupId>com.google.guava</groupId>\n" +
+               "            <artifactId>guava</artifactId>\n" +
+               "            <version>29.0-jre</version>\n" +
+               "        </dependency>\n" +
+               "        <dependency>\n" +
+               "            <groupId>joda-time</groupId>\n" +
+               "            <artifactId>joda-time</artifactId>\n" +
+               "            <version>2.12.3</version>\n" +
+               "        </dependency>\n" +
+               "    </dependencies>\n" +
+               "</project>\n";
+    }
+
+    private static String buildGradle() {
+        return "plugins {\n" +
+               "    id 'java'\n" +
+               "}\n" +
+               "\n" +
+               "java {\n" +
+               "    sourceCompatibility = JavaVersion.VERSION_1_8\n" +
+               "    targetCompatibility = JavaVersion.VERSION_1_8\n" +
+               "}\n" +
+               "\n" +
+               "repositories {\n" +
+               "    mavenCentral()\n" +
+               "}\n" +
+               "\n" +
+               "dependencies {\n" +
+               "    implementation 'javax.xml.bind:jaxb-api:2.3.1'\n" +
+               "    implementation 'javax.persistence:javax.persistence-api:2.2'\n" +
+               "    implementation 'com.google.guava:guava:29.0-jre'\n" +
+               "    implementation 'joda-time:joda-time:2.12.3'\n" +
+               "}\n";
+    }
+
+    private static String persistenceXml(int module) {
+        //language=xml
+        return "<persistence xmlns=\"http://xmlns.jcp.org/xml/ns/persistence\"\n" +
+               "             xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"\n" +
+               "             xsi:schemaLocation=\"http://xmlns.jcp.org/xml/ns/persistence http://xmlns.jcp.org/xml/ns/persistence/persistence_2_2.xsd\"\n" +
+               "             version=\"2.2\">\n" +
+               "    <persistence-unit name=\"unit" + module + "\">\n" +
+               "        <properties>\n" +
+               "            <property name=\"javax.persistence.jdbc.driver\" value=\"org.h2.Driver\"/>\n" +
+               "            <property name=\"javax.persistence.jdbc.url\" value=\"jdbc:h2:mem:test\"/>\n" +
+               "        </properties>\n" +
+               "    </persistence-unit>\n" +
+               "</persistence>\n";
+    }
+
+    private static String beansXml() {
+        //language=xml
+        return "<beans xmlns=\"http://xmlns.jcp.org/xml/ns/javaee\"\n" +
+               "       xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"\n" +
+               "       xsi:schemaLocation=\"http://xmlns.jcp.org/xml/ns/javaee http://xmlns.jcp.org/xml/ns/javaee/beans_2_0.xsd\"\n" +
+               "       version=\"2.0\" bean-discovery-mode=\"all\">\n" +
+               "</beans>\n";
+    }
+
+    private static String entity(String pkg, int c) {
+        //language=java
+        return "package " + pkg + ";\n" +
+               "\n" +
+               "import javax.persistence.Entity;\n" +
+               "import javax.persistence.Id;\n" +
+               "import javax.persistence.Temporal;\n" +
+               "import javax.persistence.TemporalType;\n" +
+               "import java.util.Date;\n" +
+               "import java.util.List;\n" +
+               "\n" +
+               "@Entity\n" +
+               "public class Entity" + c + " {\n" +
+               "    @Id\n" +
+               "    private Long id;\n" +
+               "\n" +
+               "    @Temporal(TemporalType.TIMESTAMP)\n" +
+               "    private Date created;\n" +
+               "\n" +
+               "    private List<String> tags;\n" +
+               "\n" +
+               "    public Long getId() {\n" +
+               "        return id;\n" +
+               "    }\n" +
+               "}\n";
+    }
+
+    private static String jodaUser(String pkg, int c) {
+        //language=java
+        return "package " + pkg + ";\n" +
+               "\n" +
+               "import org.joda.time.DateTime;\n" +
+               "import org.joda.time.DateTimeZone;\n" +
+               "\n" +
+               "public class JodaUser" + c + " {\n" +
+               "    public String now() {\n" +
+               "        String query = \"SELECT *\\n\" +\n" +
+               "                       \"FROM entity" + c + "\\n\" +\n" +
+               "                       \"WHERE created > ?\\n\";\n" +
+               "        return query + new DateTime(DateTimeZone.UTC).plusDays(" + c + ");\n" +
+               "    }\n" +
+               "}\n";
+    }
+
+    private static String guavaUser(String pkg, int c) {
+        //language=java
+        return "package " + pkg + ";\n" +
+               "\n" +
+               "import com.google.common.base.Optional;\n" +
+               "import com.google.common.collect.ImmutableList;\n" +
+               "import com.google.common.collect.Lists;\n" +
+               "import com.google.common.collect.Maps;\n" +
+               "\n" +
+               "import java.util.List;\n" +
+               "import java.util.Map;\n" +
+               "\n" +
+               "public class GuavaUser" + c + " {\n" +
+               "    public List<String> values() {\n" +
+               "        List<String> values = Lists.newArrayList();\n" +
+               "        Map<String, Integer> counts = Maps.newHashMap();\n" +
+               "        counts.put(\"c\", " + c + ");\n" +
+               "        values.addAll(ImmutableList.of(\"a\", \"b\"));\n" +
+               "        return Optional.fromNullable(values).or(values);\n" +
+               "    }\n" +
+               "}\n";
+    }
+
+    private static String servlet(String pkg, int c) {
+        //language=java
+        return "package " + pkg + ";\n" +
+               "\n" +
+               "import javax.servlet.http.HttpServletRequest;\n" +
+               "import javax.servlet.http.HttpSession;\n" +
+               "\n" +
+               "public class Servlet" + c + " {\n" +
+               "    public String path(HttpServletRequest request) {\n" +
+               "        HttpSession session = request.getSession();\n" +
+               "        Object value = session.getAttribute(\"" + c + "\");\n" +
+               "        return request.getRealPath(String.valueOf(value));\n" +
+               "    }\n" +
+               "}\n";
+    }
+}
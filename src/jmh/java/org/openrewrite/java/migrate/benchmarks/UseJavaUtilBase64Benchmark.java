@@ -0,0 +1,81 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.migrate.UseJavaUtilBase64;
+import org.openrewrite.java.tree.J;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class UseJavaUtilBase64Benchmark {
+
+    @Param({"10", "100"})
+    int sourceFileCount;
+
+    @Param({"10", "100"})
+    int invocationsPerFile;
+
+    List<J.CompilationUnit> sourceFiles;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        // sun.misc.BASE64Encoder is not available on recent JDKs, so parse against stubs in another package
+        JavaParser.Builder<?, ?> parser = JavaParser.fromJavaVersion().dependsOn(
+                "package bench.sun.misc;\n" +
+                "public class CharacterEncoder {\n" +
+                "    public String encode(byte[] aBuffer) { return \"\"; }\n" +
+                "    public String encodeBuffer(byte[] aBuffer) { return \"\"; }\n" +
+                "}\n",
+                "package bench.sun.misc;\n" +
+                "public class CharacterDecoder {\n" +
+                "    public byte[] decodeBuffer(String aBuffer) throws java.io.IOException { return new byte[0]; }\n" +
+                "}\n",
+                "package bench.sun.misc;\n" +
+                "public class BASE64Encoder extends CharacterEncoder {\n" +
+                "}\n",
+                "package bench.sun.misc;\n" +
+                "public class BASE64Decoder extends CharacterDecoder {\n" +
+                "}\n"
+        );
+        sourceFiles = SourceFiles.parse(parser, 8, sourceFileCount, i -> {
+            StringBuilder body = new StringBuilder();
+            for (int n = 0; n < invocationsPerFile; n++) {
+                body.append("        String e").append(n).append(" = new BASE64Encoder().encode(bytes);\n")
+                        .append("        byte[] d").append(n).append(" = new BASE64Decoder().decodeBuffer(e").append(n).append(");\n");
+            }
+            return "import bench.sun.misc.BASE64Decoder;\n" +
+                   "import bench.sun.misc.BASE64Encoder;\n" +
+                   "\n" +
+                   "class Base64Usage" + i + " {\n" +
+                   "    void method(byte[] bytes) throws java.io.IOException {\n" +
+                   body +
+                   "    }\n" +
+                   "}\n";
+        });
+    }
+
+    @Benchmark
+    public void useJavaUtilBase64(Blackhole blackhole) {
+        SourceFiles.edit(new UseJavaUtilBase64("bench.sun.misc", false), sourceFiles, blackhole);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.migrate.lang.UseTextBlocks;
+import org.openrewrite.java.tree.J;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class UseTextBlocksBenchmark {
+
+    @Param({"10", "100"})
+    int sourceFileCount;
+
+    @Param({"10", "1000"})
+    int termsPerConcatenation;
+
+    List<J.CompilationUnit> sourceFiles;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        sourceFiles = SourceFiles.parse(JavaParser.fromJavaVersion(), 17, sourceFileCount, i -> {
+            StringBuilder concatenation = new StringBuilder("\"\"");
+            for (int term = 0; term < termsPerConcatenation; term++) {
+                concatenation.append(" +\n                \"line ").append(term).append("\\n\"");
+            }
+            return "class Concatenation" + i + " {\n" +
+                   "    String sql() {\n" +
+                   "        return " + concatenation + ";\n" +
+                   "    }\n" +
+                   "}\n";
+        });
+    }
+
+    @Benchmark
+    public void useTextBlocks(Blackhole blackhole) {
+        SourceFiles.edit(new UseTextBlocks(), sourceFiles, blackhole);
+    }
+}
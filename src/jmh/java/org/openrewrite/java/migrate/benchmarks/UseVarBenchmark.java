@@ -0,0 +1,91 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openrewrite.Recipe;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.migrate.lang.var.UseVarForGenericMethodInvocations;
+import org.openrewrite.java.migrate.lang.var.UseVarForGenericsConstructors;
+import org.openrewrite.java.migrate.lang.var.UseVarForObject;
+import org.openrewrite.java.migrate.lang.var.UseVarForPrimitive;
+import org.openrewrite.java.tree.J;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class UseVarBenchmark {
+
+    @Param({"10", "100"})
+    int sourceFileCount;
+
+    @Param({"10", "100"})
+    int declarationsPerFile;
+
+    List<J.CompilationUnit> sourceFiles;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        sourceFiles = SourceFiles.parse(JavaParser.fromJavaVersion(), 17, sourceFileCount, i -> {
+            StringBuilder body = new StringBuilder();
+            for (int n = 0; n < declarationsPerFile; n++) {
+                body.append("        int i").append(n).append(" = ").append(n).append(";\n")
+                        .append("        String s").append(n).append(" = String.valueOf(i").append(n).append(");\n")
+                        .append("        List<String> l").append(n).append(" = new ArrayList<String>();\n")
+                        .append("        List<String> e").append(n).append(" = Collections.emptyList();\n");
+            }
+            return "import java.util.ArrayList;\n" +
+                   "import java.util.Collections;\n" +
+                   "import java.util.List;\n" +
+                   "\n" +
+                   "class Declarations" + i + " {\n" +
+                   "    private final String field = \"field\";\n" +
+                   "\n" +
+                   "    void method(String parameter) {\n" +
+                   body +
+                   "    }\n" +
+                   "}\n";
+        });
+    }
+
+    @Benchmark
+    public void useVarForObject(Blackhole blackhole) {
+        run(new UseVarForObject(), blackhole);
+    }
+
+    @Benchmark
+    public void useVarForPrimitive(Blackhole blackhole) {
+        run(new UseVarForPrimitive(), blackhole);
+    }
+
+    @Benchmark
+    public void useVarForGenericsConstructors(Blackhole blackhole) {
+        run(new UseVarForGenericsConstructors(), blackhole);
+    }
+
+    @Benchmark
+    public void useVarForGenericMethodInvocations(Blackhole blackhole) {
+        run(new UseVarForGenericMethodInvocations(), blackhole);
+    }
+
+    private void run(Recipe recipe, Blackhole blackhole) {
+        SourceFiles.edit(recipe, sourceFiles, blackhole);
+    }
+}
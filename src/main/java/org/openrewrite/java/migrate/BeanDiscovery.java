@@ -20,7 +20,6 @@ import lombok.Value;
 import org.openrewrite.*;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.marker.Markers;
-import org.openrewrite.xml.ChangeTagAttribute;
 import org.openrewrite.xml.XPathMatcher;
 import org.openrewrite.xml.XmlVisitor;
 import org.openrewrite.xml.tree.Xml;
@@ -50,7 +49,8 @@ public class BeanDiscovery extends Recipe {
         XmlVisitor<ExecutionContext> xmlVisitor = new XmlVisitor<ExecutionContext>() {
             @Override
             public Xml visitTag(Xml.Tag tag, ExecutionContext ctx) {
-                Xml.Tag t = (Xml.Tag) super.visitTag(tag, ctx);
+                // Only the root element is of interest, so its children are not visited
+                Xml.Tag t = tag;
                 if (!BEANS_MATCHER.matches(getCursor()) || t.getAttributes().stream()
                         .map(Xml.Attribute::getKeyAsString)
                         .anyMatch("version"::equals)) {
@@ -71,8 +71,8 @@ public class BeanDiscovery extends Recipe {
 
                 // Update or apply bean-discovery-mode=all
                 if (hasBeanDiscoveryMode) {
-                    TreeVisitor<?, ExecutionContext> changeTagVisitor = new ChangeTagAttribute("beans", "bean-discovery-mode", "all", null, null).getVisitor();
-                    t = (Xml.Tag) changeTagVisitor.visit(t, ctx, getCursor());
+                    t = t.withAttributes(ListUtils.map(t.getAttributes(), a -> "bean-discovery-mode".equals(a.getKeyAsString()) ?
+                            a.withValue(a.getValue().withValue("all")) : a));
                 } else {
                     t = addAttribute(t, "bean-discovery-mode", "all", ctx);
                 }
@@ -18,7 +18,7 @@ package org.openrewrite.java.migrate;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.openrewrite.*;
-import org.openrewrite.xml.ChangeTagAttribute;
+import org.openrewrite.internal.ListUtils;
 import org.openrewrite.xml.XPathMatcher;
 import org.openrewrite.xml.XmlVisitor;
 import org.openrewrite.xml.tree.Xml;
@@ -52,19 +52,24 @@ public class BeansXmlNamespace extends Recipe {
         return Preconditions.check(new FindSourceFiles("**/beans.xml"), new XmlVisitor<ExecutionContext>() {
             @Override
             public Xml visitTag(Xml.Tag tag, ExecutionContext ctx) {
-                Xml.Tag t = (Xml.Tag) super.visitTag(tag, ctx);
+                Xml.Tag t = tag;
                 if (BEANS_MATCHER.matches(getCursor())) {
                     Map<String, String> attributes = t.getAttributes().stream().collect(toMap(Xml.Attribute::getKeyAsString, Xml.Attribute::getValueAsString));
                     String xmlns = attributes.get("xmlns");
                     String schemaLocation = attributes.get("xsi:schemaLocation");
                     if (NS_SUN.equalsIgnoreCase(xmlns) && !SUN_SCHEMA_LOCATION.equalsIgnoreCase(schemaLocation)) {
-                        doAfterVisit(new ChangeTagAttribute("beans", "xsi:schemaLocation", SUN_SCHEMA_LOCATION, null, null).getVisitor());
+                        t = withSchemaLocation(t, SUN_SCHEMA_LOCATION);
                     } else if (NS_JCP.equalsIgnoreCase(xmlns) && !JCP_SCHEMA_LOCATION.equalsIgnoreCase(schemaLocation)) {
-                        doAfterVisit(new ChangeTagAttribute("beans", "xsi:schemaLocation", JCP_SCHEMA_LOCATION, null, null).getVisitor());
+                        t = withSchemaLocation(t, JCP_SCHEMA_LOCATION);
                     }
                 }
                 return t;
             }
+
+            private Xml.Tag withSchemaLocation(Xml.Tag t, String schemaLocation) {
+                return t.withAttributes(ListUtils.map(t.getAttributes(), a -> "xsi:schemaLocation".equals(a.getKeyAsString()) ?
+                        a.withValue(a.getValue().withValue(schemaLocation)) : a));
+            }
         });
     }
 }
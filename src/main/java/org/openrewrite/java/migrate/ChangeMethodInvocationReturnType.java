@@ -35,6 +35,8 @@ import static java.util.Collections.emptyList;
 @EqualsAndHashCode(callSuper = false)
 public class ChangeMethodInvocationReturnType extends Recipe {
 
+    private static final String METHOD_UPDATED = "METHOD_UPDATED";
+
     @Option(displayName = "Method pattern",
             description = "A method pattern that is used to find matching method declarations/invocations.",
             example = "org.mockito.Matchers anyVararg()")
@@ -60,8 +62,6 @@ public class ChangeMethodInvocationReturnType extends Recipe {
         return new JavaIsoVisitor<ExecutionContext>() {
             private final MethodMatcher methodMatcher = new MethodMatcher(methodPattern, false);
 
-            private boolean methodUpdated;
-
             @Override
             public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
                 J.MethodInvocation m = super.visitMethodInvocation(method, ctx);
@@ -72,18 +72,17 @@ public class ChangeMethodInvocationReturnType extends Recipe {
                     if (m.getName().getType() != null) {
                         m = m.withName(m.getName().withType(type));
                     }
-                    methodUpdated = true;
+                    getCursor().putMessageOnFirstEnclosing(J.VariableDeclarations.class, METHOD_UPDATED, true);
                 }
                 return m;
             }
 
             @Override
             public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, ExecutionContext ctx) {
-                methodUpdated = false;
                 JavaType.FullyQualified originalType = multiVariable.getTypeAsFullyQualified();
                 J.VariableDeclarations mv = super.visitVariableDeclarations(multiVariable, ctx);
 
-                if (methodUpdated) {
+                if (getCursor().getMessage(METHOD_UPDATED, false)) {
                     JavaType newType = JavaType.buildType(newReturnType);
                     JavaType.FullyQualified newFieldType = TypeUtils.asFullyQualified(newType);
 
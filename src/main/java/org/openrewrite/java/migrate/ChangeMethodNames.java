@@ -0,0 +1,171 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.java.tree.JavaType;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class ChangeMethodNames extends Recipe {
+
+    @Option(displayName = "Method renames",
+            description = "The methods to rename, each as a [method pattern](https://docs.openrewrite.org/reference/method-patterns) " +
+                          "followed by `:` and the new method name.",
+            example = "java.util.logging.LogRecord getThreadID():getLongThreadID")
+    List<String> methodRenames;
+
+    @Option(displayName = "Match on overrides",
+            description = "When enabled, find methods that are overrides of the method patterns.",
+            required = false)
+    @Nullable
+    Boolean matchOverrides;
+
+    @Option(displayName = "Ignore type definition",
+            description = "When set to `true` the definitions of the methods will be left untouched.",
+            required = false)
+    @Nullable
+    Boolean ignoreDefinition;
+
+    @Override
+    public String getDisplayName() {
+        return "Change method names";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Renames a table of methods, like a sequence of `ChangeMethodName` recipes would. The method " +
+               "invocations, references, declarations and static imports of a source file are renamed in a single " +
+               "pass, looking up each method by simple name in an index of the patterns.";
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        MethodPatternIndex index = new MethodPatternIndex();
+        List<String> newMethodNames = new ArrayList<>(methodRenames.size());
+        for (String methodRename : methodRenames) {
+            int colon = methodRename.lastIndexOf(':');
+            if (colon <= 0 || colon == methodRename.length() - 1) {
+                throw new IllegalArgumentException("Expected a method rename of the form `pattern:newMethodName`, but got `" + methodRename + "`");
+            }
+            index.add(methodRename.substring(0, colon).trim(), Boolean.TRUE.equals(matchOverrides));
+            newMethodNames.add(methodRename.substring(colon + 1).trim());
+        }
+        boolean renameDefinitions = !Boolean.TRUE.equals(ignoreDefinition);
+
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof JavaSourceFile)) {
+                    return tree;
+                }
+                JavaSourceFile cu = (JavaSourceFile) tree;
+                if (index.applicableTo(cu, renameDefinitions, (i, method) -> method.withName(newMethodNames.get(i))).isEmpty()) {
+                    return tree;
+                }
+                // like ChangeMethodName, a rename ignoring the definition leaves the files declaring the method alone
+                BitSet skipped = new BitSet();
+                if (!renameDefinitions) {
+                    for (JavaType.Method method : cu.getTypesInUse().getDeclaredMethods()) {
+                        for (int i = index.first(method, -1); i >= 0; i = index.first(method, i)) {
+                            skipped.set(i);
+                        }
+                    }
+                }
+                return new RenameMethods(index, newMethodNames, skipped).visit(tree, ctx);
+            }
+        };
+    }
+
+    @RequiredArgsConstructor
+    private static class RenameMethods extends JavaIsoVisitor<ExecutionContext> {
+        private final MethodPatternIndex index;
+        private final List<String> newMethodNames;
+        private final BitSet skipped;
+
+        @Override
+        public J.Import visitImport(J.Import anImport, ExecutionContext ctx) {
+            J.Import i = super.visitImport(anImport, ctx);
+            if (!i.isStatic()) {
+                return i;
+            }
+            J.FieldAccess qualid = i.getQualid();
+            for (int p = index.first(qualid, -1); p >= 0; p = index.first(qualid, p)) {
+                if (!skipped.get(p)) {
+                    qualid = qualid.withName(qualid.getName().withSimpleName(newMethodNames.get(p)));
+                }
+            }
+            return i.withQualid(qualid);
+        }
+
+        @Override
+        public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+            J.MethodDeclaration m = super.visitMethodDeclaration(method, ctx);
+            JavaType.Method type = renamed(m.getMethodType());
+            if (type != m.getMethodType()) {
+                m = m.withName(m.getName().withSimpleName(type.getName()).withType(type)).withMethodType(type);
+            }
+            return m;
+        }
+
+        @Override
+        public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+            J.MethodInvocation m = super.visitMethodInvocation(method, ctx);
+            JavaType.Method type = renamed(m.getMethodType());
+            if (type != m.getMethodType()) {
+                m = m.withName(m.getName().withSimpleName(type.getName()).withType(type)).withMethodType(type);
+            }
+            return m;
+        }
+
+        @Override
+        public J.MemberReference visitMemberReference(J.MemberReference memberRef, ExecutionContext ctx) {
+            J.MemberReference m = super.visitMemberReference(memberRef, ctx);
+            JavaType.Method type = renamed(m.getMethodType());
+            if (type != m.getMethodType()) {
+                m = m.withReference(m.getReference().withSimpleName(type.getName())).withMethodType(type);
+            }
+            return m;
+        }
+
+        /**
+         * @return the method type after all the renames that apply to it in order, or the same instance if none does
+         */
+        private JavaType.@Nullable Method renamed(JavaType.@Nullable Method method) {
+            if (method == null) {
+                return null;
+            }
+            JavaType.Method renamed = method;
+            for (int i = index.first(method); i >= 0; i = index.first(renamed, i)) {
+                if (!skipped.get(i)) {
+                    renamed = renamed.withName(newMethodNames.get(i));
+                }
+            }
+            return renamed;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Collections.emptyList;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class ChangeMethodTargetsToStatic extends Recipe {
+
+    @Option(displayName = "Method targets",
+            description = "The methods to change, each as a [method pattern](https://docs.openrewrite.org/reference/method-patterns) " +
+                          "followed by `:` and the fully qualified name of the type declaring the static method.",
+            example = "com.google.common.primitives.Ints compare(int, int):java.lang.Integer")
+    List<String> methodTargets;
+
+    @Option(displayName = "Match on overrides",
+            description = "When enabled, find methods that are overrides of the method patterns.",
+            required = false)
+    @Nullable
+    Boolean matchOverrides;
+
+    @Override
+    public String getDisplayName() {
+        return "Change method targets to static";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Changes a table of method invocations to static invocations on other types, like a sequence of " +
+               "`ChangeMethodTargetToStatic` recipes would. The method invocations of a source file are changed in a " +
+               "single pass, looking up each method by simple name in an index of the patterns.";
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        MethodPatternIndex index = new MethodPatternIndex();
+        List<String> targetTypes = new ArrayList<>(methodTargets.size());
+        for (String methodTarget : methodTargets) {
+            int colon = methodTarget.lastIndexOf(':');
+            if (colon <= 0 || colon == methodTarget.length() - 1) {
+                throw new IllegalArgumentException("Expected a method target of the form `pattern:fullyQualifiedTargetTypeName`, but got `" + methodTarget + "`");
+            }
+            index.add(methodTarget.substring(0, colon).trim(), Boolean.TRUE.equals(matchOverrides));
+            targetTypes.add(methodTarget.substring(colon + 1).trim());
+        }
+
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof JavaSourceFile) || index.applicableTo((JavaSourceFile) tree, false,
+                        (i, method) -> method.withDeclaringType(JavaType.ShallowClass.build(targetTypes.get(i)))).isEmpty()) {
+                    return tree;
+                }
+                return new ChangeMethodTargets(index, targetTypes).visit(tree, ctx);
+            }
+        };
+    }
+
+    @RequiredArgsConstructor
+    private static class ChangeMethodTargets extends JavaIsoVisitor<ExecutionContext> {
+        private final MethodPatternIndex index;
+        private final List<String> targetTypes;
+
+        @Override
+        public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+            J.MethodInvocation m = super.visitMethodInvocation(method, ctx);
+            for (int i = index.first(m); i >= 0 && m.getMethodType() != null; i = index.first(m.getMethodType(), i)) {
+                m = changeTarget(m, m.getMethodType(), targetTypes.get(i));
+            }
+            return m;
+        }
+
+        /**
+         * Changes one invocation as {@code ChangeMethodTargetToStatic} does, leaving alone static invocations that
+         * already select the target type.
+         */
+        private J.MethodInvocation changeTarget(J.MethodInvocation m, JavaType.Method type, String targetType) {
+            Expression select = m.getSelect();
+            if (type.hasFlags(Flag.Static) && select != null && TypeUtils.isOfClassType(select.getType(), targetType)) {
+                return m;
+            }
+            JavaType.FullyQualified classType = JavaType.ShallowClass.build(targetType);
+            maybeRemoveImport(type.getDeclaringType());
+            Set<Flag> flags = new LinkedHashSet<>(type.getFlags());
+            flags.add(Flag.Static);
+            JavaType.Method changed = type.withDeclaringType(classType).withFlags(flags);
+            if (select == null) {
+                maybeAddImport(targetType, m.getSimpleName(), false);
+            } else {
+                maybeAddImport(targetType, false);
+                m = m.withSelect(new J.Identifier(Tree.randomId(), select.getPrefix(), Markers.EMPTY, emptyList(),
+                        classType.getClassName(), classType, null));
+            }
+            return m.withMethodType(changed).withName(m.getName().withType(changed));
+        }
+    }
+}
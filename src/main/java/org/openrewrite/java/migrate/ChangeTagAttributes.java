@@ -0,0 +1,164 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.xml.XPathMatcher;
+import org.openrewrite.xml.XmlIsoVisitor;
+import org.openrewrite.xml.tree.Xml;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class ChangeTagAttributes extends Recipe {
+    private static final String APPLICABLE_RULES = "APPLICABLE_RULES";
+
+    @Option(displayName = "Attribute changes",
+            description = "The attribute changes, applied in order, each as `elementName|attributeName|oldValue|newValue`. " +
+                          "The element name is an XPath expression. Without an old value the attribute is set to the new " +
+                          "value, otherwise the old value is replaced in attributes that start with it.",
+            example = "/persistence|xmlns|http://xmlns.jcp.org|https://jakarta.ee")
+    List<String> attributeChanges;
+
+    @Option(displayName = "File pattern",
+            description = "A glob expression that can be used to constrain which files are changed.",
+            example = "**/persistence.xml",
+            required = false)
+    @Nullable
+    String filePattern;
+
+    @Override
+    public String getDisplayName() {
+        return "Change XML tag attributes";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Changes a table of XML attributes, like a sequence of `ChangeTagAttribute` recipes would, in a single " +
+               "pass over each document. Rules for another root element are discarded before the document is visited, " +
+               "and elements below the depth of the deepest remaining absolute XPath expression are not visited at all.";
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        List<Rule> rules = attributeChanges.stream().map(Rule::parse).collect(toList());
+        TreeVisitor<?, ExecutionContext> visitor = new XmlIsoVisitor<ExecutionContext>() {
+            @Override
+            public Xml.Document visitDocument(Xml.Document document, ExecutionContext ctx) {
+                String rootName = document.getRoot().getName();
+                List<Rule> applicable = new ArrayList<>(rules.size());
+                int maxDepth = 0;
+                for (Rule rule : rules) {
+                    if (rule.getRootName() == null || rule.getRootName().equals(rootName)) {
+                        applicable.add(rule);
+                        maxDepth = Math.max(maxDepth, rule.getDepth());
+                    }
+                }
+                if (applicable.isEmpty()) {
+                    return document;
+                }
+                getCursor().putMessage(APPLICABLE_RULES, new ApplicableRules(applicable, maxDepth));
+                return super.visitDocument(document, ctx);
+            }
+
+            @Override
+            public Xml.Tag visitTag(Xml.Tag tag, ExecutionContext ctx) {
+                ApplicableRules applicable = getCursor().getNearestMessage(APPLICABLE_RULES);
+                //noinspection DataFlowIssue
+                int depth = (int) getCursor().getPathAsStream().filter(Xml.Tag.class::isInstance).count();
+                Xml.Tag t = depth < applicable.getMaxDepth() ? super.visitTag(tag, ctx) : tag;
+                for (Rule rule : applicable.getRules()) {
+                    if (rule.getDepth() != Integer.MAX_VALUE && rule.getDepth() != depth ||
+                        !rule.getElementMatcher().matches(getCursor())) {
+                        continue;
+                    }
+                    t = t.withAttributes(ListUtils.map(t.getAttributes(), rule::apply));
+                }
+                return t;
+            }
+        };
+        return filePattern == null ? visitor : Preconditions.check(new FindSourceFiles(filePattern), visitor);
+    }
+
+    @Value
+    private static class ApplicableRules {
+        List<Rule> rules;
+        int maxDepth;
+    }
+
+    @Value
+    private static class Rule {
+        XPathMatcher elementMatcher;
+
+        /**
+         * The root element name of an absolute element path, or {@code null} if the path can match below any root.
+         */
+        @Nullable
+        String rootName;
+
+        /**
+         * The only depth an element can be matched at, or {@link Integer#MAX_VALUE} if it can be matched at any depth.
+         */
+        int depth;
+
+        String attributeName;
+
+        @Nullable
+        String oldValue;
+
+        String newValue;
+
+        static Rule parse(String change) {
+            String[] parts = change.split("\\|", 4);
+            if (parts.length != 4 || parts[0].isEmpty() || parts[1].isEmpty()) {
+                throw new IllegalArgumentException("Expected an attribute change of the form " +
+                                                   "`elementName|attributeName|oldValue|newValue`, but got `" + change + "`");
+            }
+            String elementName = parts[0];
+            String rootName = null;
+            int depth = Integer.MAX_VALUE;
+            if (elementName.startsWith("/") && !elementName.contains("//")) {
+                String[] steps = elementName.replaceAll("\\[[^]]*]", "").substring(1).split("/");
+                depth = steps.length;
+                if (!"*".equals(steps[0])) {
+                    rootName = steps[0];
+                }
+            }
+            return new Rule(new XPathMatcher(elementName), rootName, depth, parts[1],
+                    parts[2].isEmpty() ? null : parts[2], parts[3]);
+        }
+
+        Xml.Attribute apply(Xml.Attribute attribute) {
+            if (!attributeName.equals(attribute.getKeyAsString())) {
+                return attribute;
+            }
+            String value = attribute.getValueAsString();
+            if (oldValue != null && !value.startsWith(oldValue)) {
+                return attribute;
+            }
+            String changed = oldValue == null ? newValue : value.replace(oldValue, newValue);
+            return changed.equals(value) ? attribute : attribute.withValue(attribute.getValue().withValue(changed));
+        }
+    }
+}
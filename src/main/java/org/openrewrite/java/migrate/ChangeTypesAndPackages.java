@@ -0,0 +1,278 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.binary.Binary;
+import org.openrewrite.java.ChangePackage;
+import org.openrewrite.java.ChangeType;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.quark.Quark;
+import org.openrewrite.remote.Remote;
+
+import java.util.*;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class ChangeTypesAndPackages extends Recipe {
+
+    @Option(displayName = "Package mappings",
+            description = "The packages to rename, each as `oldPackageName:newPackageName`.",
+            example = "javax.persistence:jakarta.persistence",
+            required = false)
+    @Nullable
+    List<String> packageMappings;
+
+    @Option(displayName = "Recursive",
+            description = "Also rename the subpackages of each package. Defaults to `true`.",
+            required = false)
+    @Nullable
+    Boolean recursive;
+
+    @Option(displayName = "Type mappings",
+            description = "The types to rename, each as `oldFullyQualifiedTypeName:newFullyQualifiedTypeName`.",
+            example = "javax.faces.el.MethodBinding:jakarta.el.MethodExpression",
+            required = false)
+    @Nullable
+    List<String> typeMappings;
+
+    @Option(displayName = "Ignore type definition",
+            description = "When set to `true` the definition of the old types will be left untouched.",
+            required = false)
+    @Nullable
+    Boolean ignoreDefinition;
+
+    @Override
+    public String getDisplayName() {
+        return "Change types and packages";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Renames a whole table of packages and types, like a sequence of `ChangePackage` and `ChangeType` " +
+               "recipes would, with the package mappings applied before the type mappings. A prefix tree over the " +
+               "mappings selects the ones that can apply to a source file, from the fully qualified names a Java file " +
+               "declares, imports and uses, or from the dotted names in the text of any other file. This is only a " +
+               "filter: each selected mapping is still applied in its own `ChangePackage` or `ChangeType` pass over " +
+               "the file.";
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        boolean recursivePackages = !Boolean.FALSE.equals(recursive);
+        List<Recipe> renames = new ArrayList<>();
+        MappingTrie trie = new MappingTrie();
+        if (packageMappings != null) {
+            for (String mapping : packageMappings) {
+                String[] oldAndNew = split(mapping);
+                trie.add(new Mapping(renames.size(), oldAndNew[0], oldAndNew[1], true, recursivePackages));
+                renames.add(new ChangePackage(oldAndNew[0], oldAndNew[1], recursivePackages));
+            }
+        }
+        if (typeMappings != null) {
+            for (String mapping : typeMappings) {
+                String[] oldAndNew = split(mapping);
+                trie.add(new Mapping(renames.size(), oldAndNew[0], oldAndNew[1], false, false));
+                renames.add(new ChangeType(oldAndNew[0], oldAndNew[1], ignoreDefinition));
+            }
+        }
+
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof SourceFile) || tree instanceof Quark || tree instanceof Remote ||
+                    tree instanceof Binary) {
+                    return tree;
+                }
+                BitSet applicable;
+                if (tree instanceof JavaSourceFile) {
+                    applicable = trie.applicableTo((JavaSourceFile) tree);
+                } else {
+                    // only print the files that at least one of the renames handles
+                    applicable = new BitSet();
+                    for (int i = 0; i < renames.size(); i++) {
+                        if (renames.get(i).getVisitor().isAcceptable((SourceFile) tree, ctx)) {
+                            applicable.set(i);
+                        }
+                    }
+                    if (applicable.isEmpty()) {
+                        return tree;
+                    }
+                    applicable.and(trie.applicableTo(((SourceFile) tree).printAll()));
+                }
+                Tree t = tree;
+                for (int i = applicable.nextSetBit(0); i >= 0 && t != null; i = applicable.nextSetBit(i + 1)) {
+                    TreeVisitor<?, ExecutionContext> rename = renames.get(i).getVisitor();
+                    if (rename.isAcceptable((SourceFile) t, ctx)) {
+                        t = rename.visit(t, ctx);
+                    }
+                }
+                return t;
+            }
+        };
+    }
+
+    private static String[] split(String mapping) {
+        int colon = mapping.indexOf(':');
+        if (colon <= 0 || colon == mapping.length() - 1) {
+            throw new IllegalArgumentException("Expected a mapping of the form `old:new`, but got `" + mapping + "`");
+        }
+        return new String[]{mapping.substring(0, colon).trim(), mapping.substring(colon + 1).trim()};
+    }
+
+    @Value
+    private static class Mapping {
+        int index;
+        String oldName;
+        String newName;
+        boolean packageMapping;
+        boolean recursive;
+
+        String rename(String fullyQualifiedName) {
+            return newName + fullyQualifiedName.substring(oldName.length());
+        }
+    }
+
+    /**
+     * Mappings keyed by the segments of their old package or type name, so that all mappings applying to a fully
+     * qualified name are found in one walk over its segments.
+     */
+    private static class MappingTrie {
+        private final Node root = new Node();
+
+        void add(Mapping mapping) {
+            Node node = root;
+            for (String segment : mapping.getOldName().split("\\.")) {
+                node = node.children.computeIfAbsent(segment, s -> new Node());
+            }
+            node.mappings.add(mapping);
+        }
+
+        BitSet applicableTo(JavaSourceFile cu) {
+            Set<String> names = new HashSet<>();
+            if (cu.getPackageDeclaration() != null) {
+                names.add(cu.getPackageDeclaration().getExpression().printTrimmed(new Cursor(null, cu))
+                                  .replaceAll("\\s", "") + ".*");
+            }
+            for (J.Import anImport : cu.getImports()) {
+                names.add(anImport.getPackageName() + ".*");
+                names.add(anImport.getTypeName());
+            }
+            for (J.ClassDeclaration classDecl : cu.getClasses()) {
+                if (classDecl.getType() != null) {
+                    names.add(classDecl.getType().getFullyQualifiedName());
+                }
+            }
+            for (JavaType type : cu.getTypesInUse().getTypesInUse()) {
+                JavaType.FullyQualified fq = TypeUtils.asFullyQualified(type);
+                if (fq != null) {
+                    names.add(fq.getFullyQualifiedName());
+                }
+            }
+
+            BitSet applicable = new BitSet();
+            for (String name : names) {
+                collect(name, applicable);
+                int nested = name.indexOf('$');
+                if (nested > 0) {
+                    collect(name.substring(0, nested), applicable);
+                }
+            }
+            return applicable;
+        }
+
+        /**
+         * Preselects the mappings for files other than Java sources, from every dotted name in their text, taking each
+         * of them both as a type and as a package name.
+         */
+        BitSet applicableTo(String text) {
+            Set<String> names = new HashSet<>();
+            int start = -1;
+            for (int i = 0; i <= text.length(); i++) {
+                boolean partOfName = i < text.length() &&
+                                     (Character.isJavaIdentifierPart(text.charAt(i)) || text.charAt(i) == '.');
+                if (partOfName && start < 0) {
+                    start = i;
+                } else if (!partOfName && start >= 0) {
+                    String name = text.substring(start, i).replaceAll("^\\.+|\\.+$", "");
+                    if (name.indexOf('.') > 0) {
+                        names.add(name);
+                        names.add(name + ".*");
+                    }
+                    start = -1;
+                }
+            }
+
+            BitSet applicable = new BitSet();
+            for (String name : names) {
+                collect(name, applicable);
+            }
+            return applicable;
+        }
+
+        /**
+         * Follows the name through the mappings in order, as the sequence of recipes would rename it, so that a later
+         * mapping matching the renamed name applies as well.
+         */
+        private void collect(String name, BitSet applicable) {
+            Mapping mapping = first(name, -1);
+            while (mapping != null) {
+                applicable.set(mapping.getIndex());
+                name = mapping.rename(name);
+                mapping = first(name, mapping.getIndex());
+            }
+        }
+
+        private @Nullable Mapping first(String name, int after) {
+            Mapping first = null;
+            Node node = root;
+            int start = 0;
+            while (node != null) {
+                int end = name.indexOf('.', start);
+                boolean last = end < 0;
+                node = node.children.get(last ? name.substring(start) : name.substring(start, end));
+                if (node == null) {
+                    break;
+                }
+                boolean typeInPackage = !last && name.indexOf('.', end + 1) < 0;
+                for (Mapping mapping : node.mappings) {
+                    boolean matches = mapping.isPackageMapping() ?
+                            !last && (mapping.isRecursive() || typeInPackage) :
+                            last;
+                    if (matches && mapping.getIndex() > after && (first == null || mapping.getIndex() < first.getIndex())) {
+                        first = mapping;
+                    }
+                }
+                if (last) {
+                    break;
+                }
+                start = end + 1;
+            }
+            return first;
+        }
+
+        private static class Node {
+            final Map<String, Node> children = new HashMap<>();
+            final List<Mapping> mappings = new ArrayList<>(1);
+        }
+    }
+}
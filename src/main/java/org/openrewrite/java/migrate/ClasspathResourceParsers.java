@@ -0,0 +1,72 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.java.JavaExecutionContextView;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.internal.JavaTypeCache;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JVM-wide {@link JavaParser.Builder}s for the jars bundled under {@code META-INF/rewrite/classpath}, to be passed to
+ * {@code JavaTemplate.Builder#javaParser(..)}.
+ * <p>
+ * Calling {@link JavaParser.Builder#classpathFromResources(ExecutionContext, String...)} from a visitor copies the
+ * jar and attributes its types again for every template that is built. Here that happens once per set of jars and
+ * directory they are extracted to, and the types attributed along the way are kept in a type cache that is shared by
+ * all recipes and threads.
+ */
+public final class ClasspathResourceParsers {
+    private static final Map<String, JavaParser.Builder<?, ?>> BUILDERS = new ConcurrentHashMap<>();
+
+    private ClasspathResourceParsers() {
+    }
+
+    /**
+     * @param ctx                      used to locate the directory the jars are extracted to
+     * @param artifactNamesWithVersion  the jar names without the {@code .jar} extension, e.g. {@code javax.persistence-api-2.2}
+     * @return a parser builder shared with every other caller asking for the same jars in the same directory
+     */
+    public static JavaParser.Builder<?, ?> javaParser(ExecutionContext ctx, String... artifactNamesWithVersion) {
+        Path directory = JavaExecutionContextView.view(ctx).getParserClasspathDownloadTarget().toPath().toAbsolutePath();
+        return BUILDERS.computeIfAbsent(directory + "," + String.join(",", artifactNamesWithVersion), key ->
+                JavaParser.fromJavaVersion()
+                        .classpathFromResources(ctx, artifactNamesWithVersion)
+                        .typeCache(new SynchronizedJavaTypeCache()));
+    }
+
+    private static class SynchronizedJavaTypeCache extends JavaTypeCache {
+        @Override
+        public synchronized <T> @Nullable T get(String signature) {
+            return super.get(signature);
+        }
+
+        @Override
+        public synchronized void put(String signature, Object o) {
+            super.put(signature, o);
+        }
+
+        @Override
+        public synchronized void clear() {
+            super.clear();
+        }
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.binary.Binary;
+import org.openrewrite.java.migrate.table.TextReplacements;
+import org.openrewrite.quark.Quark;
+import org.openrewrite.remote.Remote;
+import org.openrewrite.text.PlainText;
+import org.openrewrite.text.PlainTextParser;
+
+import java.util.*;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class FindAndReplaceLiterals extends Recipe {
+    transient TextReplacements textReplacements = new TextReplacements(this);
+
+    @Option(displayName = "Find",
+            description = "The literal texts to find, replaced in order by the text at the same position in `replace`.",
+            example = "javax.")
+    List<String> find;
+
+    @Option(displayName = "Replace",
+            description = "The texts to replace each literal with.",
+            example = "jakarta.")
+    List<String> replace;
+
+    @Option(displayName = "Case sensitive",
+            description = "If `true` the search will be case sensitive. Defaults to `false`, like `FindAndReplace`.",
+            required = false)
+    @Nullable
+    Boolean caseSensitive;
+
+    @Option(displayName = "File pattern",
+            description = "A glob expression that can be used to constrain which files are searched. " +
+                          "Multiple patterns may be specified, separated by a semicolon `;`.",
+            example = "**/*.properties",
+            required = false)
+    @Nullable
+    String filePattern;
+
+    @Override
+    public String getDisplayName() {
+        return "Find and replace literal texts";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Replaces a table of literal texts, like a sequence of literal `FindAndReplace` recipes would, but " +
+               "finds all of them in a single scan of each file with an Aho-Corasick automaton. The file is only " +
+               "scanned again after a replacement, to find text introduced by it for the following literals. " +
+               "The number of replacements of each literal is reported per file.";
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        if (find.size() != replace.size()) {
+            throw new IllegalArgumentException("Expected as many replacements as literals to find, but got " +
+                                               find.size() + " literals and " + replace.size() + " replacements");
+        }
+        boolean ignoreCase = !Boolean.TRUE.equals(caseSensitive);
+        Automaton automaton = new Automaton(find, ignoreCase);
+        TreeVisitor<?, ExecutionContext> visitor = new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof SourceFile) || tree instanceof Quark || tree instanceof Remote ||
+                    tree instanceof Binary) {
+                    return tree;
+                }
+                SourceFile sourceFile = (SourceFile) tree;
+                String original = sourceFile instanceof PlainText ? ((PlainText) sourceFile).getText() : sourceFile.printAll();
+                String text = original;
+                BitSet occurring = automaton.occurring(text);
+                for (int i = occurring.nextSetBit(0); i >= 0; i = occurring.nextSetBit(i + 1)) {
+                    int[] hits = new int[1];
+                    text = replaceAll(text, find.get(i), replace.get(i), ignoreCase, hits);
+                    if (hits[0] > 0) {
+                        textReplacements.insertRow(ctx, new TextReplacements.Row(
+                                sourceFile.getSourcePath().toString(), find.get(i), replace.get(i), hits[0]));
+                        if (!replace.get(i).isEmpty()) {
+                            BitSet introduced = automaton.occurring(text);
+                            introduced.clear(0, i + 1);
+                            occurring.or(introduced);
+                        }
+                    }
+                }
+                if (text.equals(original)) {
+                    return sourceFile;
+                }
+                PlainText plainText = sourceFile instanceof PlainText ? (PlainText) sourceFile : PlainTextParser.convert(sourceFile);
+                return plainText.withText(text);
+            }
+        };
+        return filePattern == null ? visitor : Preconditions.check(new FindSourceFiles(filePattern), visitor);
+    }
+
+    private static String replaceAll(String text, String find, String replacement, boolean ignoreCase, int[] hits) {
+        int from = indexOf(text, find, 0, ignoreCase);
+        if (from < 0) {
+            return text;
+        }
+        StringBuilder replaced = new StringBuilder(text.length());
+        int copied = 0;
+        while (from >= 0) {
+            replaced.append(text, copied, from).append(replacement);
+            copied = from + find.length();
+            hits[0]++;
+            from = indexOf(text, find, copied, ignoreCase);
+        }
+        return replaced.append(text, copied, text.length()).toString();
+    }
+
+    private static int indexOf(String text, String find, int from, boolean ignoreCase) {
+        if (!ignoreCase) {
+            return text.indexOf(find, from);
+        }
+        for (int i = from; i <= text.length() - find.length(); i++) {
+            if (matchesIgnoringCase(text, i, find)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean matchesIgnoringCase(String text, int offset, String find) {
+        for (int c = 0; c < find.length(); c++) {
+            if (fold(text.charAt(offset + c), true) != fold(find.charAt(c), true)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Like the default (non-Unicode) case insensitive matching of {@code FindAndReplace}, only ASCII letters are
+     * folded when ignoring case, both when finding the literals that occur in a text and when replacing them.
+     */
+    private static char fold(char ch, boolean ignoreCase) {
+        return ignoreCase && ch >= 'A' && ch <= 'Z' ? (char) (ch + ('a' - 'A')) : ch;
+    }
+
+    /**
+     * An Aho-Corasick automaton over the literals, reporting which of them occur in a text in one pass over it.
+     */
+    private static class Automaton {
+        private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+        private final List<BitSet> outputs = new ArrayList<>();
+        private final List<Integer> failures = new ArrayList<>();
+        private final boolean ignoreCase;
+
+        Automaton(List<String> literals, boolean ignoreCase) {
+            this.ignoreCase = ignoreCase;
+            newState();
+            for (int i = 0; i < literals.size(); i++) {
+                String literal = literals.get(i);
+                if (literal.isEmpty()) {
+                    continue;
+                }
+                int state = 0;
+                for (int c = 0; c < literal.length(); c++) {
+                    char ch = fold(literal.charAt(c), ignoreCase);
+                    Integer next = transitions.get(state).get(ch);
+                    if (next == null) {
+                        next = newState();
+                        transitions.get(state).put(ch, next);
+                    }
+                    state = next;
+                }
+                outputs.get(state).set(i);
+            }
+
+            Deque<Integer> queue = new ArrayDeque<>();
+            for (int child : transitions.get(0).values()) {
+                failures.set(child, 0);
+                queue.add(child);
+            }
+            while (!queue.isEmpty()) {
+                int state = queue.poll();
+                for (Map.Entry<Character, Integer> transition : transitions.get(state).entrySet()) {
+                    int child = transition.getValue();
+                    int failure = failures.get(state);
+                    while (failure > 0 && !transitions.get(failure).containsKey(transition.getKey())) {
+                        failure = failures.get(failure);
+                    }
+                    Integer next = transitions.get(failure).get(transition.getKey());
+                    failures.set(child, next == null || next == child ? 0 : next);
+                    outputs.get(child).or(outputs.get(failures.get(child)));
+                    queue.add(child);
+                }
+            }
+        }
+
+        BitSet occurring(String text) {
+            BitSet occurring = new BitSet();
+            int state = 0;
+            for (int i = 0; i < text.length(); i++) {
+                char ch = fold(text.charAt(i), ignoreCase);
+                Integer next;
+                while ((next = transitions.get(state).get(ch)) == null && state > 0) {
+                    state = failures.get(state);
+                }
+                state = next == null ? 0 : next;
+                occurring.or(outputs.get(state));
+            }
+            return occurring;
+        }
+
+        private int newState() {
+            transitions.add(new HashMap<>());
+            outputs.add(new BitSet());
+            failures.add(0);
+            return transitions.size() - 1;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.tree.JavaSourceFile;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Runs a collection of recipes, typically those generated from the Refaster templates of one class, like their
+ * aggregate recipe would, but only those whose before templates invoke a method or constructor that the source file
+ * uses. The used methods of a source file are looked up by name in a {@link MethodPatternIndex}, so a recipe that
+ * cannot match costs neither its own precondition nor a pass over the tree.
+ */
+public abstract class IndexedRecipeCollection extends Recipe {
+
+    /**
+     * Adds the recipes of the collection in the order they are to run, each with method patterns covering every
+     * method and constructor invoked by its before templates.
+     */
+    protected abstract void index(Rules rules);
+
+    /**
+     * @return the recipes of the collection, in the order they are indexed
+     */
+    List<Recipe> getIndexedRecipes() {
+        Rules rules = new Rules();
+        index(rules);
+        return rules.recipes;
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        Rules rules = new Rules();
+        index(rules);
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof JavaSourceFile)) {
+                    return tree;
+                }
+                Tree t = tree;
+                BitSet applicable = rules.applicableTo((JavaSourceFile) t);
+                for (int i = applicable.nextSetBit(0); i >= 0; i = applicable.nextSetBit(i + 1)) {
+                    Tree before = t;
+                    t = rules.recipes.get(i).getVisitor().visit(t, ctx);
+                    if (!(t instanceof JavaSourceFile)) {
+                        return t;
+                    }
+                    if (t != before) {
+                        // an after template may introduce a call that a later recipe of the collection matches
+                        applicable = rules.applicableTo((JavaSourceFile) t);
+                    }
+                }
+                return t;
+            }
+        };
+    }
+
+    protected static final class Rules {
+        private final MethodPatternIndex index = new MethodPatternIndex();
+        private final List<Integer> recipeByPattern = new ArrayList<>();
+        private final List<Recipe> recipes = new ArrayList<>();
+
+        public Rules add(Recipe recipe, String... methodPatterns) {
+            if (methodPatterns.length == 0) {
+                throw new IllegalArgumentException("Expected at least one method pattern for " + recipe.getName());
+            }
+            for (String methodPattern : methodPatterns) {
+                index.add(methodPattern, false);
+                recipeByPattern.add(recipes.size());
+            }
+            recipes.add(recipe);
+            return this;
+        }
+
+        BitSet applicableTo(JavaSourceFile cu) {
+            BitSet patterns = index.applicableTo(cu, false, (i, method) -> method);
+            BitSet applicable = new BitSet(recipes.size());
+            for (int i = patterns.nextSetBit(0); i >= 0; i = patterns.nextSetBit(i + 1)) {
+                applicable.set(recipeByPattern.get(i));
+            }
+            return applicable;
+        }
+    }
+}
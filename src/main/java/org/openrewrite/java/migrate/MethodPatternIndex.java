@@ -0,0 +1,189 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.MethodCall;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * An ordered table of method patterns, indexed by the simple method name and declaring type of each pattern, so that a
+ * method type is only tested against the full {@link MethodMatcher} of the patterns it could match, plus those with a
+ * wildcard for both. The first pattern matching a method type is remembered, so a visitor dispatching on the patterns
+ * of a table evaluates their matchers once per distinct method rather than once per invocation.
+ */
+public class MethodPatternIndex {
+    private static final String CONSTRUCTOR = "<constructor>";
+    private static final int NO_MATCH = -1;
+
+    private final List<MethodMatcher> matchers = new ArrayList<>();
+    private final Map<String, List<Integer>> byNameAndType = new HashMap<>();
+    private final Map<String, List<Integer>> byName = new HashMap<>();
+    private final Map<String, List<Integer>> byType = new HashMap<>();
+    private final List<Integer> anyNameAndType = new ArrayList<>();
+    private final Map<JavaType.Method, Integer> firstByMethod = new ConcurrentHashMap<>();
+
+    /**
+     * @return the position of the pattern in the table
+     */
+    public int add(String methodPattern, boolean matchOverrides) {
+        int index = matchers.size();
+        matchers.add(new MethodMatcher(methodPattern, matchOverrides));
+        firstByMethod.clear();
+
+        String typeAndName = typeAndName(methodPattern);
+        String name = simpleName(typeAndName);
+        String type = declaringType(typeAndName, name);
+        // an override is declared by a subtype, so only patterns for the exact type can be looked up by it
+        boolean exactName = !name.contains("*");
+        boolean exactType = !matchOverrides && !type.contains("*") && !type.contains("..") && type.indexOf('.') > 0;
+        if (exactName && exactType) {
+            byNameAndType.computeIfAbsent(type + '#' + name, k -> new ArrayList<>(1)).add(index);
+        } else if (exactName) {
+            byName.computeIfAbsent(name, n -> new ArrayList<>(1)).add(index);
+        } else if (exactType) {
+            byType.computeIfAbsent(type, t -> new ArrayList<>(1)).add(index);
+        } else {
+            anyNameAndType.add(index);
+        }
+        return index;
+    }
+
+    public int size() {
+        return matchers.size();
+    }
+
+    /**
+     * @return the position of the first pattern matching the method invocation or constructor call, or {@code -1}
+     * if none does or its method type is unknown
+     */
+    public int first(@Nullable MethodCall methodCall) {
+        JavaType.Method method = methodCall == null ? null : methodCall.getMethodType();
+        return method == null ? NO_MATCH : first(method);
+    }
+
+    /**
+     * @return the position of the first pattern matching the method, or {@code -1} if none does
+     */
+    public int first(JavaType.Method method) {
+        return firstByMethod.computeIfAbsent(method, m -> first(m, NO_MATCH));
+    }
+
+    /**
+     * @return the position of the first pattern after {@code after} matching the method, or {@code -1} if none does
+     */
+    public int first(JavaType.Method method, int after) {
+        String type = method.getDeclaringType().getFullyQualifiedName().replace('$', '.');
+        int first = first(byNameAndType.getOrDefault(type + '#' + method.getName(), emptyList()), method, after, NO_MATCH);
+        first = first(byName.getOrDefault(method.getName(), emptyList()), method, after, first);
+        first = first(byType.getOrDefault(type, emptyList()), method, after, first);
+        return first(anyNameAndType, method, after, first);
+    }
+
+    /**
+     * @return the position of the first pattern after {@code after} naming the method of a static import, or
+     * {@code -1} if none does
+     */
+    public int first(J.FieldAccess staticImport, int after) {
+        for (int index = after + 1; index < matchers.size(); index++) {
+            if (matchers.get(index).isFullyQualifiedClassReference(staticImport)) {
+                return index;
+            }
+        }
+        return NO_MATCH;
+    }
+
+    private int first(List<Integer> candidates, JavaType.Method method, int after, int first) {
+        for (int index : candidates) {
+            if (first >= 0 && index >= first) {
+                break;
+            }
+            if (index > after && matchers.get(index).matches(method)) {
+                return index;
+            }
+        }
+        return first;
+    }
+
+    /**
+     * Selects the patterns that apply to a source file from the methods it uses, and optionally declares, and from its
+     * static imports, which the types in use leave out, without visiting the tree.
+     *
+     * @param applied the method type a pattern leaves behind, so that later patterns can be matched against it in
+     *                the same order as a sequence of recipes would
+     */
+    public BitSet applicableTo(JavaSourceFile cu, boolean includeDeclaredMethods,
+                               BiFunction<Integer, JavaType.Method, JavaType.Method> applied) {
+        BitSet applicable = new BitSet();
+        for (JavaType.Method method : cu.getTypesInUse().getUsedMethods()) {
+            collect(method, applied, applicable);
+        }
+        if (includeDeclaredMethods) {
+            for (JavaType.Method method : cu.getTypesInUse().getDeclaredMethods()) {
+                collect(method, applied, applicable);
+            }
+        }
+        for (J.Import anImport : cu.getImports()) {
+            if (anImport.isStatic()) {
+                for (int index = first(anImport.getQualid(), NO_MATCH); index >= 0; index = first(anImport.getQualid(), index)) {
+                    applicable.set(index);
+                }
+            }
+        }
+        return applicable;
+    }
+
+    private void collect(JavaType.Method method, BiFunction<Integer, JavaType.Method, JavaType.Method> applied,
+                         BitSet applicable) {
+        int index = first(method, NO_MATCH);
+        while (index >= 0) {
+            applicable.set(index);
+            method = applied.apply(index, method);
+            index = first(method, index);
+        }
+    }
+
+    private static String typeAndName(String methodPattern) {
+        int parameters = methodPattern.indexOf('(');
+        return (parameters < 0 ? methodPattern : methodPattern.substring(0, parameters)).trim();
+    }
+
+    private static String simpleName(String typeAndName) {
+        if (typeAndName.endsWith(CONSTRUCTOR)) {
+            return CONSTRUCTOR;
+        }
+        int space = typeAndName.lastIndexOf(' ');
+        int hash = typeAndName.lastIndexOf('#');
+        return typeAndName.substring(Math.max(space, hash) + 1);
+    }
+
+    private static String declaringType(String typeAndName, String name) {
+        String type = typeAndName.substring(0, typeAndName.length() - name.length()).trim();
+        if (type.endsWith("#")) {
+            type = type.substring(0, type.length() - 1).trim();
+        }
+        return type.replace('$', '.');
+    }
+}
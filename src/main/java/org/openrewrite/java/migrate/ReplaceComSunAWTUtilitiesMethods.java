@@ -25,7 +25,6 @@ import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.JavaVisitor;
-import org.openrewrite.java.MethodMatcher;
 import org.openrewrite.java.tree.J;
 
 @Value
@@ -101,19 +100,24 @@ public class ReplaceComSunAWTUtilitiesMethods extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        MethodMatcher getAWTIsWindowsTranslucencyMethod = new MethodMatcher(getAWTIsWindowsTranslucencyPattern);
-        MethodMatcher getWindowOpacityPatternMethod = new MethodMatcher(getWindowOpacityPattern);
-        MethodMatcher getWindowShapePatternMethod = new MethodMatcher(getWindowShapePattern);
-        MethodMatcher isWindowOpaquePatternMethod = new MethodMatcher(isWindowOpaquePattern);
-        MethodMatcher isTranslucencyCapablePatternMethod = new MethodMatcher(isTranslucencyCapablePattern);
-        MethodMatcher setComponentMixingCutoutShapePatternMethod = new MethodMatcher(setComponentMixingCutoutShapePattern);
-        MethodMatcher setWindowOpacityPatternMethod = new MethodMatcher(setWindowOpacityPattern);
+        MethodPatternIndex methods = new MethodPatternIndex();
+        int getAWTIsWindowsTranslucencyMethod = methods.add(getAWTIsWindowsTranslucencyPattern, false);
+        int isWindowOpaquePatternMethod = methods.add(isWindowOpaquePattern, false);
+        int isTranslucencyCapablePatternMethod = methods.add(isTranslucencyCapablePattern, false);
+        int setWindowOpacityPatternMethod = methods.add(setWindowOpacityPattern, false);
+        int getWindowOpacityPatternMethod = methods.add(getWindowOpacityPattern, false);
+        int getWindowShapePatternMethod = methods.add(getWindowShapePattern, false);
+        int setComponentMixingCutoutShapePatternMethod = methods.add(setComponentMixingCutoutShapePattern, false);
 
         return new JavaVisitor<ExecutionContext>() {
             @Override
             public J visitMethodInvocation(J.MethodInvocation mi, ExecutionContext ctx) {
                 super.visitMethodInvocation(mi, ctx);
-                if (getAWTIsWindowsTranslucencyMethod.matches(mi)) {
+                int method = methods.first(mi);
+                if (method < 0) {
+                    return mi;
+                }
+                if (method == getAWTIsWindowsTranslucencyMethod) {
                     maybeRemoveImport(mi.getMethodType().getDeclaringType().getFullyQualifiedName());
                     maybeAddImport("java.awt.GraphicsDevice", false);
                     maybeAddImport("java.awt.GraphicsEnvironment", false);
@@ -130,21 +134,21 @@ public class ReplaceComSunAWTUtilitiesMethods extends Recipe {
                             .apply(getCursor(), mi.getCoordinates().replace())
                             .withPrefix(mi.getPrefix());
                 }
-                if (isWindowOpaquePatternMethod.matches(mi)) {
+                if (method == isWindowOpaquePatternMethod) {
                     maybeRemoveImport(mi.getMethodType().getDeclaringType().getFullyQualifiedName());
                     return JavaTemplate.builder("#{any()}.isOpaque()")
                             .build()
                             .apply(getCursor(), mi.getCoordinates().replace(), mi.getArguments().get(0))
                             .withPrefix(mi.getPrefix());
                 }
-                if (isTranslucencyCapablePatternMethod.matches(mi)) {
+                if (method == isTranslucencyCapablePatternMethod) {
                     maybeRemoveImport(mi.getMethodType().getDeclaringType().getFullyQualifiedName());
                     return JavaTemplate.builder("#{any()}.isTranslucencyCapable()")
                             .build()
                             .apply(getCursor(), mi.getCoordinates().replace(), mi.getArguments().get(0))
                             .withPrefix(mi.getPrefix());
                 }
-                if (setWindowOpacityPatternMethod.matches(mi)) {
+                if (method == setWindowOpacityPatternMethod) {
                     maybeRemoveImport(mi.getMethodType().getDeclaringType().getFullyQualifiedName());
                     return JavaTemplate.builder("#{any()}.setOpacity(#{any()})")
                             .build()
@@ -153,21 +157,21 @@ public class ReplaceComSunAWTUtilitiesMethods extends Recipe {
                                     mi.getArguments().get(1))
                             .withPrefix(mi.getPrefix());
                 }
-                if (getWindowOpacityPatternMethod.matches(mi)) {
+                if (method == getWindowOpacityPatternMethod) {
                     maybeRemoveImport(mi.getMethodType().getDeclaringType().getFullyQualifiedName());
                     return JavaTemplate.builder("#{any()}.getOpacity()")
                             .build()
                             .apply(getCursor(), mi.getCoordinates().replace(), mi.getArguments().get(0))
                             .withPrefix(mi.getPrefix());
                 }
-                if (getWindowShapePatternMethod.matches(mi)) {
+                if (method == getWindowShapePatternMethod) {
                     maybeRemoveImport(mi.getMethodType().getDeclaringType().getFullyQualifiedName());
                     return JavaTemplate.builder("#{any()}.getShape()")
                             .build()
                             .apply(getCursor(), mi.getCoordinates().replace(), mi.getArguments().get(0))
                             .withPrefix(mi.getPrefix());
                 }
-                if (setComponentMixingCutoutShapePatternMethod.matches(mi)) {
+                if (method == setComponentMixingCutoutShapePatternMethod) {
                     maybeRemoveImport(mi.getMethodType().getDeclaringType().getFullyQualifiedName());
                     return JavaTemplate.builder("#{any()}.setMixingCutoutShape(#{any()})")
                             .build()
@@ -17,19 +17,17 @@ package org.openrewrite.java.migrate;
 
 import lombok.EqualsAndHashCode;
 import lombok.Value;
-import org.openrewrite.ExecutionContext;
-import org.openrewrite.Option;
-import org.openrewrite.Recipe;
-import org.openrewrite.TreeVisitor;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
 import org.openrewrite.gradle.UpdateJavaCompatibility;
-import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.marker.JavaVersion;
 import org.openrewrite.java.migrate.maven.UpdateMavenProjectPropertyJavaVersion;
 import org.openrewrite.java.migrate.maven.UseMavenCompilerPluginReleaseConfiguration;
-import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
 
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Value
 @EqualsAndHashCode(callSuper = false)
@@ -76,10 +74,14 @@ public class UpgradeJavaVersion extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         String newVersion = version.toString();
-        Map<JavaVersion, JavaVersion> updatedMarkers = new HashMap<>();
-        return new JavaIsoVisitor<ExecutionContext>() {
+        Map<JavaVersion, JavaVersion> updatedMarkers = new ConcurrentHashMap<>();
+        return new TreeVisitor<Tree, ExecutionContext>() {
             @Override
-            public J preVisit(J tree, ExecutionContext ctx) {
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                // The marker lives on the source file, so there is no need to descend into the tree
+                if (!(tree instanceof JavaSourceFile)) {
+                    return tree;
+                }
                 Optional<JavaVersion> maybeJavaVersion = tree.getMarkers().findFirst(JavaVersion.class);
                 if (maybeJavaVersion.isPresent() && maybeJavaVersion.get().getMajorVersion() < version) {
                     return tree.withMarkers(tree.getMarkers().setByType(updatedMarkers.computeIfAbsent(maybeJavaVersion.get(),
@@ -20,7 +20,6 @@ import org.openrewrite.*;
 import org.openrewrite.java.ChangeType;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.JavaVisitor;
-import org.openrewrite.java.MethodMatcher;
 import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.template.Semantics;
 import org.openrewrite.java.tree.J;
@@ -65,11 +64,12 @@ public class UseJavaUtilBase64 extends Recipe {
                 new UsesType<>(sunPackage + ".BASE64Encoder", false),
                 new UsesType<>(sunPackage + ".BASE64Decoder", false)
         );
-        MethodMatcher base64EncodeMethod = new MethodMatcher(sunPackage + ".CharacterEncoder *(byte[])");
-        MethodMatcher base64DecodeBuffer = new MethodMatcher(sunPackage + ".CharacterDecoder decodeBuffer(String)");
+        MethodPatternIndex methods = new MethodPatternIndex();
+        int base64EncodeMethod = methods.add(sunPackage + ".CharacterEncoder *(byte[])", false);
+        int base64DecodeBuffer = methods.add(sunPackage + ".CharacterDecoder decodeBuffer(String)", false);
 
-        MethodMatcher newBase64Encoder = new MethodMatcher(sunPackage + ".BASE64Encoder <constructor>()");
-        MethodMatcher newBase64Decoder = new MethodMatcher(sunPackage + ".BASE64Decoder <constructor>()");
+        int newBase64Encoder = methods.add(sunPackage + ".BASE64Encoder <constructor>()", false);
+        int newBase64Decoder = methods.add(sunPackage + ".BASE64Decoder <constructor>()", false);
 
         return Preconditions.check(check, new JavaVisitor<ExecutionContext>() {
             final JavaTemplate getDecoderTemplate = JavaTemplate.builder(useMimeCoder ? "Base64.getMimeDecoder()" : "Base64.getDecoder()")
@@ -103,13 +103,14 @@ public class UseJavaUtilBase64 extends Recipe {
             @Override
             public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
                 J.MethodInvocation m = (J.MethodInvocation) super.visitMethodInvocation(method, ctx);
-                if (base64EncodeMethod.matches(m) &&
+                int matched = methods.first(m);
+                if (matched == base64EncodeMethod &&
                     ("encode".equals(method.getSimpleName()) || "encodeBuffer".equals(method.getSimpleName()))) {
                     m = encodeToString.apply(updateCursor(m), m.getCoordinates().replace(), method.getArguments().get(0));
                     if (method.getSelect() instanceof J.Identifier) {
                         m = m.withSelect(method.getSelect());
                     }
-                } else if (base64DecodeBuffer.matches(method)) {
+                } else if (matched == base64DecodeBuffer) {
                     m = decode.apply(updateCursor(m), m.getCoordinates().replace(), method.getArguments().get(0));
                     if (method.getSelect() instanceof J.Identifier) {
                         m = m.withSelect(method.getSelect());
@@ -125,7 +126,8 @@ public class UseJavaUtilBase64 extends Recipe {
             @Override
             public J visitNewClass(J.NewClass newClass, ExecutionContext ctx) {
                 J.NewClass c = (J.NewClass) super.visitNewClass(newClass, ctx);
-                if (newBase64Encoder.matches(c)) {
+                int matched = methods.first(c);
+                if (matched == newBase64Encoder) {
                     // noinspection Convert2MethodRef
                     JavaTemplate.Builder encoderTemplate = useMimeCoder ?
                             Semantics.expression(this, "getMimeEncoder", () -> Base64.getMimeEncoder()) :
@@ -134,7 +136,7 @@ public class UseJavaUtilBase64 extends Recipe {
                             .build()
                             .apply(updateCursor(c), c.getCoordinates().replace());
 
-                } else if (newBase64Decoder.matches(c)) {
+                } else if (matched == newBase64Decoder) {
                     return getDecoderTemplate.apply(updateCursor(c), c.getCoordinates().replace());
                 }
                 return c;
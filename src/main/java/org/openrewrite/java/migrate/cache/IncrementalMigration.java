@@ -0,0 +1,109 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.cache;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Option;
+import org.openrewrite.Recipe;
+import org.openrewrite.config.Environment;
+
+import java.lang.ref.SoftReference;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.Collections.singletonList;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class IncrementalMigration extends Recipe {
+    private static final Map<ClassLoader, SoftReference<Environment>> ENVIRONMENTS = new WeakHashMap<>();
+
+    @Option(displayName = "Recipe",
+            description = "The fully qualified name of the recipe to run incrementally.",
+            example = "org.openrewrite.java.migrate.UpgradeToJava21")
+    String recipe;
+
+    @Option(displayName = "Cache directory",
+            description = "The directory to keep the cache in between runs. Delete it to start over.",
+            example = "build/migration-cache")
+    String cacheDirectory;
+
+    transient AtomicReference<List<Recipe>> cachedRecipe = new AtomicReference<>();
+
+    @Override
+    public String getDisplayName() {
+        return "Run a migration incrementally";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Runs a recipe such as `UpgradeToJava21` or `JakartaEE10`, skipping the source files it left unchanged " +
+               "in earlier runs with the same options and version of this library. The source files left unchanged and " +
+               "what the scanners of `AddScopeToInjectedClass` and `LombokValueToRecord` found in each source file are " +
+               "kept in a cache directory, keyed by a checksum of the source file. Other scanning recipes still scan and " +
+               "visit every source file. Hosts that have already activated the recipe can wrap it with `MigrationCache` " +
+               "directly instead.";
+    }
+
+    @Override
+    public List<Recipe> getRecipeList() {
+        List<Recipe> recipeList = cachedRecipe.get();
+        if (recipeList == null) {
+            recipeList = singletonList(MigrationCache.wrap(activate(recipe), Paths.get(cacheDirectory)));
+            if (!cachedRecipe.compareAndSet(null, recipeList)) {
+                recipeList = cachedRecipe.get();
+            }
+        }
+        return recipeList;
+    }
+
+    /**
+     * Instantiates a recipe class directly. Only a declarative recipe is looked up in the recipes found on the
+     * classpath of the context class loader, which is scanned once per class loader rather than once per run.
+     */
+    private static Recipe activate(String recipeName) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = IncrementalMigration.class.getClassLoader();
+        }
+        try {
+            Class<?> recipeClass = Class.forName(recipeName, false, classLoader);
+            if (Recipe.class.isAssignableFrom(recipeClass)) {
+                return (Recipe) recipeClass.getDeclaredConstructor().newInstance();
+            }
+        } catch (ClassNotFoundException ignored) {
+            // a declarative recipe
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Unable to instantiate recipe " + recipeName +
+                                               ", which must have a public no-argument constructor", e);
+        }
+        synchronized (ENVIRONMENTS) {
+            SoftReference<Environment> scanned = ENVIRONMENTS.get(classLoader);
+            @Nullable Environment environment = scanned == null ? null : scanned.get();
+            if (environment == null) {
+                environment = Environment.builder().scanRuntimeClasspath().build();
+                // held softly, as the recipes of the environment keep the class loader reachable
+                ENVIRONMENTS.put(classLoader, new SoftReference<>(environment));
+            }
+            return environment.activateRecipes(recipeName);
+        }
+    }
+}
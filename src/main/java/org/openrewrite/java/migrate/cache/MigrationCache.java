@@ -0,0 +1,710 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.cache;
+
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.config.OptionDescriptor;
+import org.openrewrite.config.RecipeDescriptor;
+import org.openrewrite.gradle.marker.GradleDependencyConfiguration;
+import org.openrewrite.gradle.marker.GradleProject;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.marker.JavaSourceSet;
+import org.openrewrite.java.marker.JavaVersion;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.java.tree.TypesInUse;
+import org.openrewrite.marker.Marker;
+import org.openrewrite.maven.tree.MavenResolutionResult;
+import org.openrewrite.maven.tree.ResolvedDependency;
+import org.openrewrite.maven.tree.ResolvedManagedDependency;
+import org.openrewrite.maven.tree.ResolvedPom;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * A local cache of the source files a recipe left unchanged, and of what the scanners of its
+ * {@link ReplayableScanningRecipe replayable scanning recipes} contributed for each source file, so that the recipe can
+ * be run again over a mostly unchanged code base without visiting the source files it left unchanged last time.
+ * <p>
+ * Source files are identified by a checksum of their path, printed source, Java version and the signatures of the
+ * types, methods and variables they use, so that a change to a type declared in another source file or on the
+ * classpath changes the checksum of the source files using it. Both kinds of entries are stored under a key made of
+ * the name and options of every recipe in the recipe tree and the version of this library, so that changing any of them
+ * starts from an empty cache. A source file is skipped by every recipe except scanning recipes that are not
+ * replayable, whose scanners and visitors always run, when an earlier run left it unchanged with the accumulators of the
+ * replayable scanning recipes holding what they hold now, and with the same Maven, Gradle and source set classpath
+ * markers on the source files. A change to the dependencies of any project therefore counts as a change to every
+ * source file. The entries are appended to files in
+ * the cache directory as they are found, so an interrupted run keeps what it learned.
+ */
+public class MigrationCache {
+    private static final @Nullable String LIBRARY_VERSION = libraryVersion();
+
+    private final Path directory;
+    private final String recipeKey;
+    private final String runMessage = MigrationCache.class.getName() + ".run." + UUID.randomUUID();
+
+    /**
+     * The checksums of the source files left unchanged, by namespace. A namespace combines the recipe key with the
+     * accumulators of the replayable scanning recipes.
+     */
+    private final Map<String, Set<String>> unchanged = new ConcurrentHashMap<>();
+
+    /**
+     * The contributions of the scanner of each replayable scanning recipe, by the checksum of the source file scanned.
+     */
+    private final Map<String, Map<String, List<String>>> contributions = new ConcurrentHashMap<>();
+
+    private MigrationCache(Path directory, Recipe recipe) {
+        this.directory = directory;
+        StringBuilder description = new StringBuilder(LIBRARY_VERSION);
+        describe(recipe.getDescriptor(), description);
+        this.recipeKey = checksum(description.toString());
+    }
+
+    /**
+     * @return a recipe running the given recipe, skipping the source files that the cache in the given directory
+     * records as left unchanged by it, or the given recipe itself when the version of this library cannot be read
+     */
+    public static Recipe wrap(Recipe recipe, Path directory) {
+        if (LIBRARY_VERSION == null) {
+            // without a version the cache could not tell an upgraded library apart, so do not cache at all
+            return recipe;
+        }
+        MigrationCache cache = new MigrationCache(directory, recipe);
+        return cache.new Cached(recipe);
+    }
+
+    private class Cached extends Recipe {
+        private final Recipe recipe;
+        private final List<Recipe> recipeList;
+
+        Cached(Recipe recipe) {
+            this.recipe = recipe;
+            this.recipeList = Arrays.asList(new LookUpUnchanged(), mirror(recipe), new RecordUnchanged());
+        }
+
+        @Override
+        public String getName() {
+            return recipe.getName() + ".cached";
+        }
+
+        @Override
+        public String getDisplayName() {
+            return recipe.getDisplayName() + " (cached)";
+        }
+
+        @Override
+        public String getDescription() {
+            return "Runs `" + recipe.getName() + "`, skipping the source files it left unchanged in earlier runs.";
+        }
+
+        @Override
+        public List<Recipe> getRecipeList() {
+            return recipeList;
+        }
+    }
+
+    /**
+     * Collects the build markers of all source files while scanning, and decides for each source file whether the
+     * recipes of this cycle may skip it, before any of them visits it.
+     */
+    private class LookUpUnchanged extends ScanningRecipe<Run> {
+        @Override
+        public String getDisplayName() {
+            return "Look up unchanged source files";
+        }
+
+        @Override
+        public String getDescription() {
+            return "Looks up the source files that an earlier run left unchanged.";
+        }
+
+        @Override
+        public Run getInitialValue(ExecutionContext ctx) {
+            return run(ctx);
+        }
+
+        @Override
+        public TreeVisitor<?, ExecutionContext> getScanner(Run run) {
+            return new TreeVisitor<Tree, ExecutionContext>() {
+                @Override
+                public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                    if (tree instanceof SourceFile) {
+                        run.built((SourceFile) tree);
+                    }
+                    return tree;
+                }
+            };
+        }
+
+        @Override
+        public TreeVisitor<?, ExecutionContext> getVisitor(Run run) {
+            return new TreeVisitor<Tree, ExecutionContext>() {
+                @Override
+                public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                    if (tree instanceof SourceFile) {
+                        SourceFile sourceFile = (SourceFile) tree;
+                        String fileKey = run.fileKey(sourceFile);
+                        boolean skip = unchanged(run.namespace()).contains(fileKey);
+                        run.decisions.put(sourceFile.getId(), new Decision(ctx.getCycle(), sourceFile, fileKey, skip));
+                    }
+                    return tree;
+                }
+            };
+        }
+    }
+
+    /**
+     * Records the source files that the recipes of this cycle left unchanged, after all of them visited it.
+     */
+    private class RecordUnchanged extends Recipe {
+        @Override
+        public String getDisplayName() {
+            return "Record unchanged source files";
+        }
+
+        @Override
+        public String getDescription() {
+            return "Records the source files that this run left unchanged.";
+        }
+
+        @Override
+        public TreeVisitor<?, ExecutionContext> getVisitor() {
+            return new TreeVisitor<Tree, ExecutionContext>() {
+                @Override
+                public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                    if (tree instanceof SourceFile) {
+                        Run run = run(ctx);
+                        Decision decision = run.decisions.get(((SourceFile) tree).getId());
+                        if (decision != null && !decision.isSkip() && decision.getCycle() == ctx.getCycle() &&
+                            decision.getSourceFile() == tree && unchanged(run.namespace()).add(decision.getFileKey())) {
+                            append(directory.resolve(run.namespace() + ".unchanged"), decision.getFileKey() + "\n");
+                        }
+                    }
+                    return tree;
+                }
+            };
+        }
+    }
+
+    private Recipe mirror(Recipe recipe) {
+        return recipe instanceof ScanningRecipe ?
+                mirrorScanning((ScanningRecipe<?>) recipe) :
+                new Mirror(recipe);
+    }
+
+    private <T> Recipe mirrorScanning(ScanningRecipe<T> recipe) {
+        return new ScanningMirror<>(recipe);
+    }
+
+    private class Mirror extends Recipe {
+        private final Recipe delegate;
+        private final List<Recipe> recipeList;
+
+        Mirror(Recipe delegate) {
+            this.delegate = delegate;
+            this.recipeList = ListUtils.map(delegate.getRecipeList(), MigrationCache.this::mirror);
+        }
+
+        @Override
+        public String getName() {
+            return delegate.getName();
+        }
+
+        @Override
+        public String getDisplayName() {
+            return delegate.getDisplayName();
+        }
+
+        @Override
+        public String getDescription() {
+            return delegate.getDescription();
+        }
+
+        @Override
+        public boolean causesAnotherCycle() {
+            return delegate.causesAnotherCycle();
+        }
+
+        @Override
+        public int maxCycles() {
+            return delegate.maxCycles();
+        }
+
+        @Override
+        public List<Recipe> getRecipeList() {
+            return recipeList;
+        }
+
+        @Override
+        public TreeVisitor<?, ExecutionContext> getVisitor() {
+            return skipUnchanged(delegate.getVisitor());
+        }
+    }
+
+    private class ScanningMirror<T> extends ScanningRecipe<T> {
+        private final ScanningRecipe<T> delegate;
+        private final @Nullable ReplayableScanningRecipe<T> replayable;
+        private final String leafKey;
+        private final List<Recipe> recipeList;
+
+        @SuppressWarnings("unchecked")
+        ScanningMirror(ScanningRecipe<T> delegate) {
+            this.delegate = delegate;
+            this.recipeList = ListUtils.map(delegate.getRecipeList(), MigrationCache.this::mirror);
+            this.replayable = delegate instanceof ReplayableScanningRecipe ? (ReplayableScanningRecipe<T>) delegate : null;
+            StringBuilder description = new StringBuilder(recipeKey);
+            describe(delegate.getDescriptor(), description);
+            this.leafKey = checksum(description.toString());
+        }
+
+        @Override
+        public String getName() {
+            return delegate.getName();
+        }
+
+        @Override
+        public String getDisplayName() {
+            return delegate.getDisplayName();
+        }
+
+        @Override
+        public String getDescription() {
+            return delegate.getDescription();
+        }
+
+        @Override
+        public boolean causesAnotherCycle() {
+            return delegate.causesAnotherCycle();
+        }
+
+        @Override
+        public int maxCycles() {
+            return delegate.maxCycles();
+        }
+
+        @Override
+        public List<Recipe> getRecipeList() {
+            return recipeList;
+        }
+
+        @Override
+        public T getInitialValue(ExecutionContext ctx) {
+            return delegate.getInitialValue(ctx);
+        }
+
+        @Override
+        public TreeVisitor<?, ExecutionContext> getScanner(T acc) {
+            ReplayableScanningRecipe<T> replayable = this.replayable;
+            if (replayable == null) {
+                return delegate.getScanner(acc);
+            }
+            return new TreeVisitor<Tree, ExecutionContext>() {
+                @Override
+                public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                    if (!(tree instanceof SourceFile)) {
+                        return tree;
+                    }
+                    String fileKey = run(ctx).fileKey((SourceFile) tree);
+                    Map<String, List<String>> byFile = contributions(leafKey);
+                    List<String> replay = byFile.get(fileKey);
+                    if (replay == null) {
+                        // scan into an accumulator of its own to learn what this source file contributes
+                        T fileAcc = delegate.getInitialValue(ctx);
+                        TreeVisitor<?, ExecutionContext> scanner = delegate.getScanner(fileAcc);
+                        if (scanner.isAcceptable((SourceFile) tree, ctx)) {
+                            scanner.visit(tree, ctx, getCursor());
+                        }
+                        replay = replayable.contributions(fileAcc);
+                        String lines = contributionLines(fileKey, replay);
+                        if (byFile.putIfAbsent(fileKey, replay) == null) {
+                            append(directory.resolve(leafKey + ".contributions"), lines);
+                        }
+                    }
+                    for (String contribution : replay) {
+                        replayable.replay(acc, contribution);
+                    }
+                    return tree;
+                }
+            };
+        }
+
+        @Override
+        public Collection<? extends SourceFile> generate(T acc, Collection<SourceFile> generatedInThisCycle, ExecutionContext ctx) {
+            ReplayableScanningRecipe<T> replayable = this.replayable;
+            if (replayable != null) {
+                List<String> all = new ArrayList<>(replayable.contributions(acc));
+                Collections.sort(all);
+                run(ctx).accumulated(leafKey, checksum(String.join("\n", all)));
+            }
+            return delegate.generate(acc, generatedInThisCycle, ctx);
+        }
+
+        @Override
+        public TreeVisitor<?, ExecutionContext> getVisitor(T acc) {
+            // the visitor of a scanning recipe that cannot be replayed may depend on any source file, changed or not
+            return replayable == null ? delegate.getVisitor(acc) : skipUnchanged(delegate.getVisitor(acc));
+        }
+    }
+
+    private TreeVisitor<?, ExecutionContext> skipUnchanged(TreeVisitor<?, ExecutionContext> visitor) {
+        @SuppressWarnings("unchecked")
+        TreeVisitor<Tree, ExecutionContext> v = (TreeVisitor<Tree, ExecutionContext>) visitor;
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public boolean isAcceptable(SourceFile sourceFile, ExecutionContext ctx) {
+                return v.isAcceptable(sourceFile, ctx);
+            }
+
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof SourceFile && run(ctx).isSkipped((SourceFile) tree, ctx.getCycle())) {
+                    return tree;
+                }
+                return v.visit(tree, ctx, getCursor());
+            }
+        };
+    }
+
+    private Run run(ExecutionContext ctx) {
+        return ctx.computeMessageIfAbsent(runMessage, k -> new Run());
+    }
+
+    /**
+     * What the cache learned in a single run of the recipe.
+     */
+    private class Run {
+        private final Map<UUID, FileKey> fileKeys = new ConcurrentHashMap<>();
+        private final Map<UUID, Decision> decisions = new ConcurrentHashMap<>();
+        private final Map<String, String> accumulators = new ConcurrentSkipListMap<>();
+        private final Map<UUID, String> builds = new ConcurrentHashMap<>();
+
+        /**
+         * The checksums of the build markers and types seen in this run, by identity, as the same instances are
+         * shared by many source files.
+         */
+        private final Map<Object, String> fingerprints = Collections.synchronizedMap(new IdentityHashMap<>());
+
+        @Nullable
+        private volatile String namespace;
+
+        String fileKey(SourceFile sourceFile) {
+            FileKey fileKey = fileKeys.get(sourceFile.getId());
+            if (fileKey == null || fileKey.getSourceFile() != sourceFile) {
+                JavaVersion javaVersion = sourceFile.getMarkers().findFirst(JavaVersion.class).orElse(null);
+                fileKey = new FileKey(sourceFile, checksum(
+                        sourceFile.getSourcePath().toString(),
+                        javaVersion == null ? "" : javaVersion.getSourceCompatibility() + "/" + javaVersion.getTargetCompatibility(),
+                        sourceFile.printAll(),
+                        typesInUse(sourceFile)));
+                fileKeys.put(sourceFile.getId(), fileKey);
+            }
+            return fileKey.getKey();
+        }
+
+        private String typesInUse(SourceFile sourceFile) {
+            if (!(sourceFile instanceof JavaSourceFile)) {
+                return "";
+            }
+            TypesInUse typesInUse = ((JavaSourceFile) sourceFile).getTypesInUse();
+            Set<String> signatures = new TreeSet<>();
+            for (JavaType type : typesInUse.getTypesInUse()) {
+                signatures.add(fingerprint(type, () -> signature(type)));
+            }
+            for (JavaType.Method method : typesInUse.getUsedMethods()) {
+                signatures.add(fingerprint(method, method::toString));
+            }
+            for (JavaType.Variable variable : typesInUse.getVariables()) {
+                signatures.add(fingerprint(variable, variable::toString));
+            }
+            return String.join("\n", signatures);
+        }
+
+        void built(SourceFile sourceFile) {
+            for (Marker marker : sourceFile.getMarkers().getMarkers()) {
+                if (marker instanceof MavenResolutionResult || marker instanceof GradleProject ||
+                    marker instanceof JavaSourceSet) {
+                    String fingerprint = fingerprint(marker, () -> build(marker));
+                    // keyed by id, so that a marker updated by an earlier cycle replaces its old version
+                    if (!fingerprint.equals(builds.put(marker.getId(), fingerprint))) {
+                        namespace = null;
+                    }
+                }
+            }
+        }
+
+        private String fingerprint(Object typeOrMarker, Supplier<String> description) {
+            String fingerprint = fingerprints.get(typeOrMarker);
+            if (fingerprint == null) {
+                fingerprint = checksum(description.get());
+                fingerprints.put(typeOrMarker, fingerprint);
+            }
+            return fingerprint;
+        }
+
+        void accumulated(String leafKey, String digest) {
+            accumulators.put(leafKey, digest);
+            namespace = null;
+        }
+
+        String namespace() {
+            String ns = namespace;
+            if (ns == null) {
+                StringBuilder description = new StringBuilder(recipeKey);
+                accumulators.forEach((leafKey, digest) -> description.append('\n').append(leafKey).append('=').append(digest));
+                for (String build : new TreeSet<>(builds.values())) {
+                    description.append('\n').append(build);
+                }
+                ns = checksum(description.toString());
+                namespace = ns;
+            }
+            return ns;
+        }
+
+        boolean isSkipped(SourceFile sourceFile, int cycle) {
+            Decision decision = decisions.get(sourceFile.getId());
+            return decision != null && decision.isSkip() && decision.getCycle() == cycle;
+        }
+    }
+
+    @Value
+    private static class FileKey {
+        SourceFile sourceFile;
+        String key;
+    }
+
+    @Value
+    private static class Decision {
+        int cycle;
+        SourceFile sourceFile;
+        String fileKey;
+        boolean skip;
+    }
+
+    private Set<String> unchanged(String namespace) {
+        return unchanged.computeIfAbsent(namespace, ns -> {
+            Set<String> fileKeys = ConcurrentHashMap.newKeySet();
+            fileKeys.addAll(read(directory.resolve(ns + ".unchanged")));
+            return fileKeys;
+        });
+    }
+
+    private Map<String, List<String>> contributions(String leafKey) {
+        return contributions.computeIfAbsent(leafKey, k -> {
+            Map<String, List<String>> byFile = new ConcurrentHashMap<>();
+            for (String line : read(directory.resolve(k + ".contributions"))) {
+                int tab = line.indexOf('\t');
+                if (tab < 0) {
+                    byFile.putIfAbsent(line, emptyList());
+                } else {
+                    byFile.computeIfAbsent(line.substring(0, tab), f -> new ArrayList<>()).add(line.substring(tab + 1));
+                }
+            }
+            return byFile;
+        });
+    }
+
+    private static String contributionLines(String fileKey, List<String> replay) {
+        StringBuilder lines = new StringBuilder();
+        if (replay.isEmpty()) {
+            lines.append(fileKey).append('\n');
+        }
+        for (String contribution : replay) {
+            if (contribution.indexOf('\n') >= 0 || contribution.indexOf('\r') >= 0) {
+                throw new IllegalStateException("Expected a contribution on a single line, but got " + contribution);
+            }
+            lines.append(fileKey).append('\t').append(contribution).append('\n');
+        }
+        return lines.toString();
+    }
+
+    private static List<String> read(Path file) {
+        if (!Files.exists(file)) {
+            return emptyList();
+        }
+        try {
+            return Files.readAllLines(file, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private synchronized void append(Path file, String lines) {
+        try {
+            Files.createDirectories(directory);
+            Files.write(file, lines.getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void describe(RecipeDescriptor descriptor, StringBuilder description) {
+        description.append('\n').append(descriptor.getName());
+        for (OptionDescriptor option : descriptor.getOptions()) {
+            description.append(' ').append(option.getName()).append('=').append(option.getValue());
+        }
+        for (RecipeDescriptor child : descriptor.getRecipeList()) {
+            describe(child, description);
+        }
+    }
+
+    private static String signature(JavaType type) {
+        JavaType.FullyQualified fq = TypeUtils.asFullyQualified(type);
+        if (fq == null) {
+            return type.toString();
+        }
+        StringBuilder signature = new StringBuilder(fq.getKind() + " " + fq.getFullyQualifiedName());
+        if (fq.getSupertype() != null) {
+            signature.append(" extends ").append(fq.getSupertype().getFullyQualifiedName());
+        }
+        for (JavaType.FullyQualified anInterface : fq.getInterfaces()) {
+            signature.append(" implements ").append(anInterface.getFullyQualifiedName());
+        }
+        for (JavaType.FullyQualified annotation : fq.getAnnotations()) {
+            signature.append(" @").append(annotation.getFullyQualifiedName());
+        }
+        for (JavaType.Variable member : fq.getMembers()) {
+            signature.append('\n').append(member);
+        }
+        for (JavaType.Method method : fq.getMethods()) {
+            signature.append('\n').append(method);
+        }
+        return signature.toString();
+    }
+
+    /**
+     * Describes what a build marker resolved, leaving out the ids that change with every parse.
+     */
+    private static String build(Marker marker) {
+        StringBuilder description = new StringBuilder(marker.getClass().getName());
+        if (marker instanceof MavenResolutionResult) {
+            for (MavenResolutionResult mrr = (MavenResolutionResult) marker; mrr != null; mrr = mrr.getParent()) {
+                ResolvedPom pom = mrr.getPom();
+                description.append('\n').append(pom.getGroupId()).append(':').append(pom.getArtifactId())
+                        .append(':').append(pom.getVersion());
+                new TreeMap<>(pom.getProperties()).forEach((key, value) ->
+                        description.append('\n').append(key).append('=').append(value));
+                for (ResolvedManagedDependency managed : pom.getDependencyManagement()) {
+                    description.append("\nmanaged ").append(managed.getGroupId()).append(':')
+                            .append(managed.getArtifactId()).append(':').append(managed.getVersion());
+                }
+                new TreeMap<>(mrr.getDependencies()).forEach((scope, dependencies) ->
+                        describe(scope.name(), dependencies, description));
+            }
+        } else if (marker instanceof GradleProject) {
+            List<GradleDependencyConfiguration> configurations = new ArrayList<>(((GradleProject) marker).getConfigurations());
+            configurations.sort(Comparator.comparing(GradleDependencyConfiguration::getName));
+            for (GradleDependencyConfiguration configuration : configurations) {
+                describe(configuration.getName(), configuration.getResolved(), description);
+            }
+        } else if (marker instanceof JavaSourceSet) {
+            JavaSourceSet sourceSet = (JavaSourceSet) marker;
+            description.append('\n').append(sourceSet.getName());
+            sourceSet.getClasspath().stream()
+                    .map(JavaType.FullyQualified::getFullyQualifiedName)
+                    .sorted()
+                    .forEach(type -> description.append('\n').append(type));
+        }
+        return description.toString();
+    }
+
+    private static void describe(String scope, List<ResolvedDependency> dependencies, StringBuilder description) {
+        for (ResolvedDependency dependency : dependencies) {
+            description.append('\n').append(scope).append(' ').append(dependency.getGroupId()).append(':')
+                    .append(dependency.getArtifactId()).append(':').append(dependency.getVersion());
+        }
+    }
+
+    static String checksum(String... parts) {
+        MessageDigest sha256 = sha256();
+        for (String part : parts) {
+            sha256.update(part.getBytes(StandardCharsets.UTF_8));
+            sha256.update((byte) 0);
+        }
+        return hex(sha256.digest());
+    }
+
+    /**
+     * @return the version of this library, or {@code null} if it cannot be read
+     */
+    private static @Nullable String libraryVersion() {
+        String version = MigrationCache.class.getPackage().getImplementationVersion();
+        if (version != null) {
+            return version;
+        }
+        // not running from a released jar, so tell builds apart by the contents of the classes, which unlike their
+        // modification times also change when a build rewrites them in place
+        CodeSource codeSource = MigrationCache.class.getProtectionDomain().getCodeSource();
+        if (codeSource == null) {
+            return null;
+        }
+        try {
+            Path location = Paths.get(codeSource.getLocation().toURI());
+            List<Path> files;
+            try (Stream<Path> walk = Files.walk(location)) {
+                files = walk.filter(Files::isRegularFile).sorted().collect(toList());
+            }
+            MessageDigest sha256 = sha256();
+            for (Path file : files) {
+                sha256.update(location.relativize(file).toString().getBytes(StandardCharsets.UTF_8));
+                sha256.update((byte) 0);
+                sha256.update(Files.readAllBytes(file));
+            }
+            return hex(sha256.digest());
+        } catch (IOException | URISyntaxException | FileSystemNotFoundException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String hex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder();
+        for (byte b : bytes) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+}
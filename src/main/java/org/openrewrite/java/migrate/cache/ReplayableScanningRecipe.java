@@ -0,0 +1,41 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.cache;
+
+import java.util.List;
+
+/**
+ * A {@link org.openrewrite.ScanningRecipe} whose accumulator can be rebuilt from what its scanner contributed for
+ * each source file, so that a {@link MigrationCache} can replay the contributions of source files unchanged since an
+ * earlier run instead of scanning them again.
+ *
+ * @param <T> the accumulator type of the scanning recipe
+ */
+public interface ReplayableScanningRecipe<T> {
+
+    /**
+     * @param acc an accumulator, either holding what the scanner contributed for a single source file or the
+     *            accumulator of a whole run
+     * @return the contributions held by the accumulator, each on a single line, such that replaying them into an
+     * empty accumulator makes it equal to the given one
+     */
+    List<String> contributions(T acc);
+
+    /**
+     * Adds a contribution returned by {@link #contributions(Object)} to the accumulator of a run.
+     */
+    void replay(T acc, String contribution);
+}
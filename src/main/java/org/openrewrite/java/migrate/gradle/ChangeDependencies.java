@@ -0,0 +1,222 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.gradle;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.gradle.marker.GradleDependencyConfiguration;
+import org.openrewrite.gradle.marker.GradleProject;
+import org.openrewrite.gradle.search.FindGradleProject;
+import org.openrewrite.groovy.GroovyIsoVisitor;
+import org.openrewrite.groovy.tree.G;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.migrate.maven.DependencyMapping;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.maven.MavenDownloadingException;
+import org.openrewrite.maven.internal.MavenPomDownloader;
+import org.openrewrite.maven.tree.GroupArtifact;
+
+import java.util.*;
+
+import static java.util.Collections.emptyMap;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class ChangeDependencies extends Recipe {
+
+    @Option(displayName = "Dependency mappings",
+            description = "The dependencies to change, each as `oldGroupId:oldArtifactId:newGroupId:newArtifactId`, " +
+                          "optionally followed by `:newVersion`. The new version can be an exact version or a node-style " +
+                          "version selector, and is applied where the old dependency declares a version.",
+            example = "javax.activation:javax.activation-api:jakarta.activation:jakarta.activation-api:latest.release")
+    List<String> dependencyMappings;
+
+    @Override
+    public String getDisplayName() {
+        return "Change Gradle dependencies";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Changes the coordinates of a whole table of dependencies declared in Groovy build scripts, in string " +
+               "or map notation, like a sequence of Gradle `ChangeDependency` recipes would. All mappings are applied " +
+               "to a build script in a single pass, after which the `GradleProject` marker is updated once. Kotlin " +
+               "build scripts are left unchanged. The marker is not resolved again: only the coordinates of the " +
+               "requested and direct dependencies are renamed in it, so their versions and the transitive dependencies " +
+               "stay as last resolved by Gradle.";
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        Map<GroupArtifact, DependencyMapping> mappings = DependencyMapping.parseAll(dependencyMappings);
+        return Preconditions.check(new FindGradleProject(FindGradleProject.SearchCriteria.Marker).getVisitor(), new GroovyIsoVisitor<ExecutionContext>() {
+            @Override
+            public G.CompilationUnit visitCompilationUnit(G.CompilationUnit cu, ExecutionContext ctx) {
+                Optional<GradleProject> maybeGp = cu.getMarkers().findFirst(GradleProject.class);
+                if (!maybeGp.isPresent()) {
+                    return cu;
+                }
+                G.CompilationUnit g = super.visitCompilationUnit(cu, ctx);
+                if (g != cu) {
+                    g = g.withMarkers(g.getMarkers().setByType(updateModel(maybeGp.get(), mappings)));
+                }
+                return g;
+            }
+
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J.MethodInvocation m = super.visitMethodInvocation(method, ctx);
+                GradleProject gp = getCursor().firstEnclosingOrThrow(G.CompilationUnit.class).getMarkers()
+                        .findFirst(GradleProject.class).orElse(null);
+                J.MethodInvocation enclosing = getCursor().getParentOrThrow().firstEnclosing(J.MethodInvocation.class);
+                if (gp == null || gp.getConfiguration(m.getSimpleName()) == null ||
+                    enclosing == null || !"dependencies".equals(enclosing.getSimpleName())) {
+                    return m;
+                }
+                if (m.getArguments().stream().allMatch(G.MapEntry.class::isInstance)) {
+                    return changeMapNotation(m, gp, ctx);
+                }
+                return m.withArguments(ListUtils.map(m.getArguments(), arg -> arg instanceof J.Literal ?
+                        changeStringNotation((J.Literal) arg, gp, ctx) : arg));
+            }
+
+            private J.Literal changeStringNotation(J.Literal literal, GradleProject gp, ExecutionContext ctx) {
+                if (!(literal.getValue() instanceof String) || literal.getValueSource() == null) {
+                    return literal;
+                }
+                String notation = (String) literal.getValue();
+                int extension = notation.indexOf('@');
+                String[] parts = (extension < 0 ? notation : notation.substring(0, extension)).split(":", -1);
+                DependencyMapping mapping = parts.length < 2 ? null : mappings.get(new GroupArtifact(parts[0], parts[1]));
+                if (mapping == null) {
+                    return literal;
+                }
+                parts[0] = mapping.getNewGroupId();
+                parts[1] = mapping.getNewArtifactId();
+                MavenDownloadingException failure = null;
+                if (parts.length > 2 && mapping.getNewVersion() != null) {
+                    try {
+                        String newVersion = newVersion(mapping, parts[2], gp, ctx);
+                        if (newVersion != null) {
+                            parts[2] = newVersion;
+                        }
+                    } catch (MavenDownloadingException e) {
+                        failure = e;
+                    }
+                }
+                String changed = String.join(":", parts) + (extension < 0 ? "" : notation.substring(extension));
+                J.Literal l = withValue(literal, changed);
+                return failure == null ? l : failure.warn(l);
+            }
+
+            private J.MethodInvocation changeMapNotation(J.MethodInvocation m, GradleProject gp, ExecutionContext ctx) {
+                Map<String, String> values = new HashMap<>();
+                for (Expression arg : m.getArguments()) {
+                    G.MapEntry entry = (G.MapEntry) arg;
+                    String key = key(entry);
+                    if (key != null && entry.getValue() instanceof J.Literal &&
+                        ((J.Literal) entry.getValue()).getValue() instanceof String) {
+                        values.put(key, (String) ((J.Literal) entry.getValue()).getValue());
+                    }
+                }
+                DependencyMapping mapping = values.containsKey("group") && values.containsKey("name") ?
+                        mappings.get(new GroupArtifact(values.get("group"), values.get("name"))) : null;
+                if (mapping == null) {
+                    return m;
+                }
+                Map<String, String> changed = new HashMap<>();
+                changed.put("group", mapping.getNewGroupId());
+                changed.put("name", mapping.getNewArtifactId());
+                MavenDownloadingException failure = null;
+                if (values.containsKey("version") && mapping.getNewVersion() != null) {
+                    try {
+                        String newVersion = newVersion(mapping, values.get("version"), gp, ctx);
+                        if (newVersion != null) {
+                            changed.put("version", newVersion);
+                        }
+                    } catch (MavenDownloadingException e) {
+                        failure = e;
+                    }
+                }
+                m = m.withArguments(ListUtils.map(m.getArguments(), arg -> {
+                    G.MapEntry entry = (G.MapEntry) arg;
+                    String value = changed.get(key(entry));
+                    return value == null || !(entry.getValue() instanceof J.Literal) ? entry :
+                            entry.withValue(withValue((J.Literal) entry.getValue(), value));
+                }));
+                return failure == null ? m : failure.warn(m);
+            }
+        });
+    }
+
+    private static @Nullable String newVersion(DependencyMapping mapping, String currentVersion, GradleProject gp,
+                                               ExecutionContext ctx) throws MavenDownloadingException {
+        if (!mapping.requiresAvailableVersions()) {
+            return mapping.getNewVersion();
+        }
+        List<String> versions = new MavenPomDownloader(emptyMap(), ctx)
+                .downloadMetadata(new GroupArtifact(mapping.getNewGroupId(), mapping.getNewArtifactId()), null, gp.getMavenRepositories())
+                .getVersioning().getVersions();
+        return mapping.selectVersion(currentVersion, versions);
+    }
+
+    private static @Nullable String key(G.MapEntry entry) {
+        if (entry.getKey() instanceof J.Literal && ((J.Literal) entry.getKey()).getValue() instanceof String) {
+            return (String) ((J.Literal) entry.getKey()).getValue();
+        } else if (entry.getKey() instanceof J.Identifier) {
+            return ((J.Identifier) entry.getKey()).getSimpleName();
+        }
+        return null;
+    }
+
+    private static J.Literal withValue(J.Literal literal, String value) {
+        if (value.equals(literal.getValue()) || literal.getValueSource() == null) {
+            return literal;
+        }
+        //noinspection DataFlowIssue
+        return literal.withValue(value)
+                .withValueSource(literal.getValueSource().replace((String) literal.getValue(), value));
+    }
+
+    /**
+     * Renames the requested and directly resolved dependencies of all configurations at once, rather than once per
+     * changed dependency. Resolving the new coordinates takes Gradle itself, so the versions in the marker and the
+     * transitive dependencies are left as they were.
+     */
+    private static GradleProject updateModel(GradleProject gp, Map<GroupArtifact, DependencyMapping> mappings) {
+        Map<String, GradleDependencyConfiguration> nameToConfiguration = new HashMap<>(gp.getNameToConfiguration().size());
+        boolean changed = false;
+        for (GradleDependencyConfiguration configuration : gp.getNameToConfiguration().values()) {
+            GradleDependencyConfiguration c = configuration
+                    .withRequested(ListUtils.map(configuration.getRequested(), requested -> {
+                        DependencyMapping mapping = mappings.get(new GroupArtifact(requested.getGroupId(), requested.getArtifactId()));
+                        return mapping == null ? requested : requested.withGav(requested.getGav()
+                                .withGroupId(mapping.getNewGroupId()).withArtifactId(mapping.getNewArtifactId()));
+                    }))
+                    .withDirectResolved(ListUtils.map(configuration.getDirectResolved(), resolved -> {
+                        DependencyMapping mapping = mappings.get(new GroupArtifact(resolved.getGroupId(), resolved.getArtifactId()));
+                        return mapping == null ? resolved : resolved.withGav(resolved.getGav()
+                                .withGroupId(mapping.getNewGroupId()).withArtifactId(mapping.getNewArtifactId()));
+                    }));
+            changed |= c != configuration;
+            nameToConfiguration.put(c.getName(), c);
+        }
+        return changed ? gp.withNameToConfiguration(nameToConfiguration) : gp;
+    }
+}
@@ -19,9 +19,9 @@ import org.openrewrite.ExecutionContext;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.migrate.ClasspathResourceParsers;
 import org.openrewrite.java.tree.J;
 
 public class UpdateBeanManagerMethods extends Recipe {
@@ -46,7 +46,7 @@ public class UpdateBeanManagerMethods extends Recipe {
                 J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
                 if (fireEventMatcher.matches(method)) {
                     return JavaTemplate.builder("#{any(jakarta.enterprise.inject.spi.BeanManager)}.getEvent().fire(#{any(jakarta.enterprise.inject.spi.BeforeBeanDiscovery)})")
-                            .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "jakarta.enterprise.cdi-api-3.0.0-M4"))
+                            .javaParser(ClasspathResourceParsers.javaParser(ctx, "jakarta.enterprise.cdi-api-3.0.0-M4"))
                             .build()
                             .apply(updateCursor(mi),
                                     mi.getCoordinates().replace(),
@@ -54,7 +54,7 @@ public class UpdateBeanManagerMethods extends Recipe {
                                     mi.getArguments().get(0));
                 } else if (createInjectionTargetMatcher.matches(method)) {
                     return JavaTemplate.builder("#{any(jakarta.enterprise.inject.spi.BeanManager)}.getInjectionTargetFactory(#{any(jakarta.enterprise.inject.spi.AnnotatedType)}).createInjectionTarget(null)")
-                            .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "jakarta.enterprise.cdi-api-3.0.0-M4"))
+                            .javaParser(ClasspathResourceParsers.javaParser(ctx, "jakarta.enterprise.cdi-api-3.0.0-M4"))
                             .build()
                             .apply(updateCursor(mi),
                                     mi.getCoordinates().replace(),
@@ -19,10 +19,10 @@ package org.openrewrite.java.migrate.jakarta;
 import org.openrewrite.ExecutionContext;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.JavaVisitor;
 import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.migrate.ClasspathResourceParsers;
 import org.openrewrite.java.tree.J;
 
 public class UpdateGetRealPath extends Recipe {
@@ -45,7 +45,7 @@ public class UpdateGetRealPath extends Recipe {
             public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
                 if (METHOD_PATTERN.matches(method)) {
                     return JavaTemplate.builder("#{any()}.getServletContext().getRealPath(#{any(String)})")
-                            .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "jakarta.servlet-api-6.0.0"))
+                            .javaParser(ClasspathResourceParsers.javaParser(ctx, "jakarta.servlet-api-6.0.0"))
                             .build()
                             .apply(updateCursor(method),
                                     method.getCoordinates().replace(),
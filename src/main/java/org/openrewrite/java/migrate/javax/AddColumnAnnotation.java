@@ -23,8 +23,8 @@ import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.AddOrUpdateAnnotationAttribute;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.migrate.ClasspathResourceParsers;
 import org.openrewrite.java.search.FindAnnotations;
 import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.J;
@@ -54,15 +54,12 @@ public class AddColumnAnnotation extends Recipe {
         return Preconditions.check(
                 new UsesType<>("javax.persistence.ElementCollection", true),
                 new JavaIsoVisitor<ExecutionContext>() {
-                    boolean visitedTopLevelClass = false;
-
                     @Override
                     public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
-                        // if top-level class has already been checked, continue running recipe
-                        if (visitedTopLevelClass) {
+                        // only top-level classes need to be entities, nested classes continue running recipe
+                        if (!(getCursor().getParentTreeCursor().getValue() instanceof J.CompilationUnit)) {
                             return super.visitClassDeclaration(classDecl, ctx);
                         }
-                        visitedTopLevelClass = true;
                         if (!FindAnnotations.find(classDecl, "@javax.persistence.Entity").isEmpty()) {
                             return super.visitClassDeclaration(classDecl, ctx);
                         }
@@ -82,7 +79,7 @@ public class AddColumnAnnotation extends Recipe {
                         if (FindAnnotations.find(multiVariable, "@javax.persistence.Column").isEmpty()) {
                             maybeAddImport("javax.persistence.Column");
                             return JavaTemplate.builder("@Column(name = \"element\")")
-                                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "javax.persistence-api-2.2"))
+                                    .javaParser(ClasspathResourceParsers.javaParser(ctx, "javax.persistence-api-2.2"))
                                     .imports("javax.persistence.Column")
                                     .build()
                                     .apply(getCursor(), multiVariable.getCoordinates().addAnnotation(Comparator.comparing(J.Annotation::getSimpleName)));
@@ -24,9 +24,9 @@ import org.openrewrite.gradle.marker.GradleProject;
 import org.openrewrite.gradle.search.FindGradleProject;
 import org.openrewrite.groovy.GroovyIsoVisitor;
 import org.openrewrite.groovy.tree.G;
-import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.marker.JavaProject;
 import org.openrewrite.java.search.UsesType;
-import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
 import org.openrewrite.maven.MavenIsoVisitor;
 import org.openrewrite.maven.tree.MavenResolutionResult;
 import org.openrewrite.maven.tree.Scope;
@@ -37,11 +37,12 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 @Value
 @EqualsAndHashCode(callSuper = false)
-public class AddJaxbRuntime extends ScanningRecipe<AtomicBoolean> {
+public class AddJaxbRuntime extends ScanningRecipe<AddJaxbRuntime.Accumulator> {
     private static final String JACKSON_GROUP = "com.fasterxml.jackson.module";
     private static final String JACKSON_JAXB_ARTIFACT = "jackson-module-jaxb-annotations";
 
@@ -84,30 +85,68 @@ public class AddJaxbRuntime extends ScanningRecipe<AtomicBoolean> {
         return new HashSet<>(Arrays.asList("javax", "jakarta", "javaee", "jaxb", "glassfish", "java11"));
     }
 
+    /**
+     * Tracks which projects use JAXB, so that the run-time is only added to the build files of those projects.
+     */
+    public static class Accumulator {
+        private final Set<JavaProject> projectsUsingJaxb = ConcurrentHashMap.newKeySet();
+
+        /**
+         * Set when a source file without a {@link JavaProject} marker uses JAXB, so it can't be attributed to a project.
+         */
+        private final AtomicBoolean unattributedUseOfJaxb = new AtomicBoolean();
+
+        boolean isKnownToUseJaxb(@Nullable JavaProject project) {
+            return unattributedUseOfJaxb.get() || project != null && projectsUsingJaxb.contains(project);
+        }
+
+        void addProjectUsingJaxb(@Nullable JavaProject project) {
+            if (project == null) {
+                unattributedUseOfJaxb.set(true);
+            } else {
+                projectsUsingJaxb.add(project);
+            }
+        }
+
+        /**
+         * @param buildFile A Maven or Gradle build file.
+         * @return Whether the project of the build file uses JAXB. Build files without a {@link JavaProject} marker
+         * can't be attributed to a project, so they qualify when any source file uses JAXB.
+         */
+        boolean usesJaxb(Tree buildFile) {
+            JavaProject project = buildFile.getMarkers().findFirst(JavaProject.class).orElse(null);
+            return project == null ?
+                    unattributedUseOfJaxb.get() || !projectsUsingJaxb.isEmpty() :
+                    isKnownToUseJaxb(project);
+        }
+    }
+
     @Override
-    public AtomicBoolean getInitialValue(ExecutionContext ctx) {
-        return new AtomicBoolean(false);
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
     }
 
     @Override
-    public TreeVisitor<?, ExecutionContext> getScanner(AtomicBoolean acc) {
-        return new JavaIsoVisitor<ExecutionContext>() {
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        TreeVisitor<?, ExecutionContext> usesJaxb = new UsesType<>("javax.xml.bind..*", true);
+        return new TreeVisitor<Tree, ExecutionContext>() {
             @Override
-            public @Nullable J visit(@Nullable Tree tree, ExecutionContext ctx) {
-                if (acc.get()) {
-                    return (J) tree;
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof JavaSourceFile)) {
+                    return tree;
                 }
-                J t = new UsesType<ExecutionContext>("javax.xml.bind..*", true).visit(tree, ctx);
-                if (t != tree) {
-                    acc.set(true);
+                JavaProject project = tree.getMarkers().findFirst(JavaProject.class).orElse(null);
+                // Once a project is known to use JAXB, there is no need to look at its remaining sources
+                if (!acc.isKnownToUseJaxb(project) && usesJaxb.visit(tree, ctx) != tree) {
+                    acc.addProjectUsingJaxb(project);
                 }
-                return (J) tree;
+                return tree;
             }
         };
     }
 
     @Override
-    public TreeVisitor<?, ExecutionContext> getVisitor(AtomicBoolean acc) {
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
         return new TreeVisitor<Tree, ExecutionContext>() {
             @Override
             public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
@@ -136,7 +175,7 @@ public class AddJaxbRuntime extends ScanningRecipe<AtomicBoolean> {
                                 GLASSFISH_JAXB_RUNTIME_GROUP, GLASSFISH_JAXB_RUNTIME_ARTIFACT, "2.3.x", null, null
                         ).getVisitor().visitNonNull(g, ctx);
                     }
-                    if(!acc.get()) {
+                    if (!acc.usesJaxb(g)) {
                         return g;
                     }
 
@@ -185,7 +224,7 @@ public class AddJaxbRuntime extends ScanningRecipe<AtomicBoolean> {
 
                 @SuppressWarnings("ConstantConditions")
                 private Xml.Document maybeAddRuntimeDependency(Xml.Document d, ExecutionContext ctx) {
-                    if(!acc.get()) {
+                    if (!acc.usesJaxb(d)) {
                         return d;
                     }
                     MavenResolutionResult mavenModel = getResolutionResult();
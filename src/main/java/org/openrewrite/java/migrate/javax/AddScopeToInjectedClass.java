@@ -21,13 +21,16 @@ import org.openrewrite.ScanningRecipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.AnnotationMatcher;
 import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.migrate.cache.ReplayableScanningRecipe;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
-public class AddScopeToInjectedClass extends ScanningRecipe<Set<String>> {
+public class AddScopeToInjectedClass extends ScanningRecipe<Set<String>> implements ReplayableScanningRecipe<Set<String>> {
     private static final String JAVAX_INJECT_INJECT = "javax.inject.Inject";
     private static final String JAVAX_ENTERPRISE_CONTEXT_DEPENDENT = "javax.enterprise.context.Dependent";
 
@@ -43,7 +46,7 @@ public class AddScopeToInjectedClass extends ScanningRecipe<Set<String>> {
 
     @Override
     public Set<String> getInitialValue(ExecutionContext ctx) {
-        return new HashSet<>();
+        return ConcurrentHashMap.newKeySet();
     }
 
     @Override
@@ -76,12 +79,22 @@ public class AddScopeToInjectedClass extends ScanningRecipe<Set<String>> {
         };
     }
 
+    @Override
+    public List<String> contributions(Set<String> injectedTypes) {
+        return new ArrayList<>(injectedTypes);
+    }
+
+    @Override
+    public void replay(Set<String> injectedTypes, String injectedType) {
+        injectedTypes.add(injectedType);
+    }
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor(Set<String> injectedTypes) {
         return new JavaIsoVisitor<ExecutionContext>() {
             @Override
-            public J.CompilationUnit visitCompilationUnit(J.CompilationUnit compilationUnit, ExecutionContext ctx) {
-                J.CompilationUnit cu = super.visitCompilationUnit(compilationUnit, ctx);
+            public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
+                // Not calling super, as only AnnotateTypesVisitor makes changes
                 for (J.ClassDeclaration aClass : cu.getClasses()) {
                     if (aClass.getType() != null && injectedTypes.contains(aClass.getType().getFullyQualifiedName())) {
                         return (J.CompilationUnit) new AnnotateTypesVisitor(JAVAX_ENTERPRISE_CONTEXT_DEPENDENT)
@@ -17,21 +17,24 @@ package org.openrewrite.java.migrate.javax;
 
 import lombok.EqualsAndHashCode;
 import lombok.Value;
+import org.jspecify.annotations.Nullable;
 import org.openrewrite.ExecutionContext;
 import org.openrewrite.Preconditions;
 import org.openrewrite.ScanningRecipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.migrate.ClasspathResourceParsers;
+import org.openrewrite.java.migrate.search.UsesCollectedType;
 import org.openrewrite.java.search.FindAnnotations;
 import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
 
 import java.util.Comparator;
-import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Value
 @EqualsAndHashCode(callSuper = false)
@@ -51,13 +54,18 @@ public class AddTransientAnnotationToEntity extends ScanningRecipe<AddTransientA
     }
 
     static class EntityAccumulator {
-        private final Set<JavaType> entityClasses = new HashSet<>();
+        private final Set<String> entityClasses = ConcurrentHashMap.newKeySet();
 
         public void addEntity(JavaType type) {
-            entityClasses.add(type);
+            JavaType.FullyQualified fq = TypeUtils.asFullyQualified(type);
+            if (fq != null) {
+                entityClasses.add(fq.getFullyQualifiedName());
+            }
         }
-        public boolean isEntity(JavaType type) {
-            return entityClasses.contains(type);
+
+        public boolean isEntity(@Nullable JavaType type) {
+            JavaType.FullyQualified fq = TypeUtils.asFullyQualified(type);
+            return fq != null && entityClasses.contains(fq.getFullyQualifiedName());
         }
     }
 
@@ -89,7 +97,7 @@ public class AddTransientAnnotationToEntity extends ScanningRecipe<AddTransientA
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor(EntityAccumulator acc) {
-        return new JavaIsoVisitor<ExecutionContext>() {
+        return Preconditions.check(new UsesCollectedType<>(acc::isEntity), new JavaIsoVisitor<ExecutionContext>() {
             @Override
             public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, ExecutionContext ctx) {
                 // Exit if attribute is not an Entity class
@@ -105,11 +113,11 @@ public class AddTransientAnnotationToEntity extends ScanningRecipe<AddTransientA
                 maybeAddImport("javax.persistence.Transient");
                 return JavaTemplate.builder("@Transient")
                         .contextSensitive()
-                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "javax.persistence-api-2.2"))
+                        .javaParser(ClasspathResourceParsers.javaParser(ctx, "javax.persistence-api-2.2"))
                         .imports("javax.persistence.Transient")
                         .build()
                         .apply(getCursor(), multiVariable.getCoordinates().addAnnotation(Comparator.comparing(J.Annotation::getSimpleName)));
             }
-        };
+        });
     }
 }
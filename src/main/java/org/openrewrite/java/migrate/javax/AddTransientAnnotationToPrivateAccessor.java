@@ -22,8 +22,8 @@ import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.migrate.ClasspathResourceParsers;
 import org.openrewrite.java.search.FindAnnotations;
 import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.Expression;
@@ -78,7 +78,7 @@ public class AddTransientAnnotationToPrivateAccessor extends Recipe {
                             maybeAddImport("javax.persistence.Transient");
                             return JavaTemplate.builder("@Transient")
                                     .contextSensitive()
-                                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "javax.persistence-api-2.2"))
+                                    .javaParser(ClasspathResourceParsers.javaParser(ctx, "javax.persistence-api-2.2"))
                                     .imports("javax.persistence.Transient")
                                     .build()
                                     .apply(getCursor(), md.getCoordinates().addAnnotation(Comparator.comparing(J.Annotation::getSimpleName)));
@@ -23,22 +23,33 @@ import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.TypeUtils;
 
 import java.util.Comparator;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class AnnotateTypesVisitor extends JavaIsoVisitor<Set<String>> {
+    /**
+     * Templates by annotation type, so the annotation stub is only compiled once rather than for every visitor.
+     */
+    private static final Map<String, JavaTemplate> TEMPLATES = new ConcurrentHashMap<>();
+
     private final String annotationToBeAdded;
     private final AnnotationMatcher annotationMatcher;
     private final JavaTemplate template;
 
     public AnnotateTypesVisitor(String annotationToBeAdded) {
         this.annotationToBeAdded = annotationToBeAdded;
-        String[] split = this.annotationToBeAdded.split("\\.");
-        String className = split[split.length - 1];
-        String packageName = this.annotationToBeAdded.substring(0, this.annotationToBeAdded.lastIndexOf("."));
         this.annotationMatcher = new AnnotationMatcher("@" + this.annotationToBeAdded);
+        this.template = TEMPLATES.computeIfAbsent(annotationToBeAdded, AnnotateTypesVisitor::annotationTemplate);
+    }
+
+    private static JavaTemplate annotationTemplate(String annotationToBeAdded) {
+        String[] split = annotationToBeAdded.split("\\.");
+        String className = split[split.length - 1];
+        String packageName = annotationToBeAdded.substring(0, annotationToBeAdded.lastIndexOf("."));
         String interfaceAsString = String.format("package %s; public @interface %s {}", packageName, className);
-        this.template = JavaTemplate.builder("@" + className)
-                .imports(this.annotationToBeAdded)
+        return JavaTemplate.builder("@" + className)
+                .imports(annotationToBeAdded)
                 .javaParser(JavaParser.fromJavaVersion().dependsOn(interfaceAsString))
                 .build();
     }
@@ -23,6 +23,7 @@ import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.*;
+import org.openrewrite.java.migrate.ClasspathResourceParsers;
 import org.openrewrite.java.search.UsesMethod;
 import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.J;
@@ -71,7 +72,7 @@ public class HttpSessionInvalidate extends Recipe {
                             final JavaTemplate logoutTemplate =
                                     JavaTemplate.builder("#{any(javax.servlet.http.HttpServletRequest)}.logout()")
                                             .imports("javax.servlet.http.HttpServletRequest")
-                                            .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "javax.servlet-3.0"))
+                                            .javaParser(ClasspathResourceParsers.javaParser(ctx, "javax.servlet-3.0"))
                                             .build();
                             method = logoutTemplate.apply(
                                     getCursor(),
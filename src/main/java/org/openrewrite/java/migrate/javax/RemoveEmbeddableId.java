@@ -22,14 +22,16 @@ import org.openrewrite.ScanningRecipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.RemoveAnnotation;
+import org.openrewrite.java.migrate.search.UsesCollectedType;
 import org.openrewrite.java.search.FindAnnotations;
 import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
 
 import java.util.HashSet;
 import java.util.Set;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class RemoveEmbeddableId extends ScanningRecipe<RemoveEmbeddableId.Accumulator> {
 
@@ -88,7 +90,8 @@ public class RemoveEmbeddableId extends ScanningRecipe<RemoveEmbeddableId.Accumu
         return Preconditions.check(
                 Preconditions.and(
                         new UsesType<>("javax.persistence.Embeddable", true),
-                        new UsesType<>("javax.persistence.Id", true)
+                        new UsesType<>("javax.persistence.Id", true),
+                        new UsesCollectedType<>(acc::isEmbeddableClass)
                 ),
                 new JavaIsoVisitor<ExecutionContext>() {
                     @Override
@@ -108,16 +111,37 @@ public class RemoveEmbeddableId extends ScanningRecipe<RemoveEmbeddableId.Accumu
     }
 
     public static class Accumulator {
-        private final Set<JavaType> definedEmbeddableClasses = new HashSet<>();
+        private final Set<String> definedEmbeddableClasses = ConcurrentHashMap.newKeySet();
 
         public void addClass(JavaType type) {
-            definedEmbeddableClasses.add(type);
+            JavaType.FullyQualified fq = TypeUtils.asFullyQualified(type);
+            if (fq != null) {
+                definedEmbeddableClasses.add(fq.getFullyQualifiedName());
+            }
         }
 
+        /**
+         * @return whether the type, or any of its supertypes, is referenced by an {@code @EmbeddedId} attribute
+         */
         public boolean isEmbeddableClass(@Nullable JavaType type) {
-            return definedEmbeddableClasses.stream()
-                    .anyMatch(emb -> type.equals(emb) ||
-                               type.isAssignableFrom(Pattern.compile(((JavaType.Class) emb).getFullyQualifiedName())));
+            return !definedEmbeddableClasses.isEmpty() &&
+                   isOrExtendsEmbeddableClass(TypeUtils.asFullyQualified(type), new HashSet<>());
+        }
+
+        private boolean isOrExtendsEmbeddableClass(JavaType.@Nullable FullyQualified type, Set<String> visited) {
+            if (type == null || !visited.add(type.getFullyQualifiedName())) {
+                return false;
+            }
+            if (definedEmbeddableClasses.contains(type.getFullyQualifiedName()) ||
+                isOrExtendsEmbeddableClass(type.getSupertype(), visited)) {
+                return true;
+            }
+            for (JavaType.FullyQualified anInterface : type.getInterfaces()) {
+                if (isOrExtendsEmbeddableClass(anInterface, visited)) {
+                    return true;
+                }
+            }
+            return false;
         }
     }
 }
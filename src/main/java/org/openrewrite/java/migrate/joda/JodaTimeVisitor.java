@@ -20,7 +20,7 @@ import org.jspecify.annotations.Nullable;
 import org.openrewrite.ExecutionContext;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.JavaVisitor;
-import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.migrate.MethodPatternIndex;
 import org.openrewrite.java.migrate.joda.templates.*;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
@@ -37,13 +37,16 @@ import static org.openrewrite.java.migrate.joda.templates.TimeClassNames.*;
 
 public class JodaTimeVisitor extends JavaVisitor<ExecutionContext> {
 
-  private final MethodMatcher anyNewDateTime = new MethodMatcher(JODA_DATE_TIME + "<constructor>(..)");
-  private final MethodMatcher anyDateTime = new MethodMatcher(JODA_DATE_TIME + " *(..)");
-  private final MethodMatcher anyBaseDateTime = new MethodMatcher(JODA_BASE_DATE_TIME + " *(..)");
-  private final MethodMatcher zoneFor = new MethodMatcher(JODA_DATE_TIME_ZONE + " for*(..)");
-  private final MethodMatcher anyTimeFormatter = new MethodMatcher(JODA_TIME_FORMAT + " *(..)");
-  private final MethodMatcher anyNewDuration = new MethodMatcher(JODA_DURATION + "<constructor>(..)");
-  private final MethodMatcher anyDuration = new MethodMatcher(JODA_DURATION + " *(..)");
+  private final MethodPatternIndex constructors = new MethodPatternIndex();
+  private final int anyNewDateTime = constructors.add(JODA_DATE_TIME + "<constructor>(..)", false);
+  private final int anyNewDuration = constructors.add(JODA_DURATION + "<constructor>(..)", false);
+
+  private final MethodPatternIndex methods = new MethodPatternIndex();
+  private final int zoneFor = methods.add(JODA_DATE_TIME_ZONE + " for*(..)", false);
+  private final int anyDateTime = methods.add(JODA_DATE_TIME + " *(..)", false);
+  private final int anyBaseDateTime = methods.add(JODA_BASE_DATE_TIME + " *(..)", false);
+  private final int anyTimeFormatter = methods.add(JODA_TIME_FORMAT + " *(..)", false);
+  private final int anyDuration = methods.add(JODA_DURATION + " *(..)", false);
 
   @Override
   public @NonNull J visitCompilationUnit(@NonNull J.CompilationUnit cu, @NonNull ExecutionContext ctx) {
@@ -82,11 +85,12 @@ public class JodaTimeVisitor extends JavaVisitor<ExecutionContext> {
     if (hasJodaType(updated.getArguments())) {
       return newClass;
     }
-    if (anyNewDateTime.matches(newClass)) {
-      return applyTemplate(newClass, updated, DateTimeTemplates.getTemplates()).orElse(newClass);
+    int constructor = constructors.first(newClass);
+    if (constructor == anyNewDateTime) {
+      return applyTemplate(newClass, updated, DateTimeTemplates.getRegistry()).orElse(newClass);
     }
-    if (anyNewDuration.matches(newClass)) {
-      return applyTemplate(newClass, updated, DurationTemplates.getTemplates()).orElse(newClass);
+    if (constructor == anyNewDuration) {
+      return applyTemplate(newClass, updated, DurationTemplates.getRegistry()).orElse(newClass);
     }
     if (areArgumentsAssignable(updated)) {
       return updated;
@@ -101,17 +105,18 @@ public class JodaTimeVisitor extends JavaVisitor<ExecutionContext> {
     if (hasJodaType(m.getArguments()) || isJodaVarRef(m.getSelect())) {
       return method;
     }
-    if (zoneFor.matches(method)) {
-      return applyTemplate(method, m, TimeZoneTemplates.getTemplates()).orElse(method);
+    int matched = methods.first(method);
+    if (matched == zoneFor) {
+      return applyTemplate(method, m, TimeZoneTemplates.getRegistry()).orElse(method);
     }
-    if (anyDateTime.matches(method) || anyBaseDateTime.matches(method)) {
-      return applyTemplate(method, m, DateTimeTemplates.getTemplates()).orElse(method);
+    if (matched == anyDateTime || matched == anyBaseDateTime) {
+      return applyTemplate(method, m, DateTimeTemplates.getRegistry()).orElse(method);
     }
-    if (anyTimeFormatter.matches(method)) {
-      return applyTemplate(method, m, DateTimeFormatTemplates.getTemplates()).orElse(method);
+    if (matched == anyTimeFormatter) {
+      return applyTemplate(method, m, DateTimeFormatTemplates.getRegistry()).orElse(method);
     }
-    if (anyDuration.matches(method)) {
-      return applyTemplate(method, m, DurationTemplates.getTemplates()).orElse(method);
+    if (matched == anyDuration) {
+      return applyTemplate(method, m, DurationTemplates.getRegistry()).orElse(method);
     }
     if (areArgumentsAssignable(m)) {
       return m;
@@ -141,17 +146,17 @@ public class JodaTimeVisitor extends JavaVisitor<ExecutionContext> {
     return false;
   }
 
-  private Optional<MethodCall> applyTemplate(MethodCall original, MethodCall updated, List<MethodTemplate> templates) {
-    for (MethodTemplate template : templates) {
-      if (template.getMatcher().matches(original)) {
-        Expression[] args = template.getTemplateArgsFunc().apply(updated);
-        if (args.length == 0) {
-          return Optional.of(template.getTemplate().apply(updateCursor(updated), updated.getCoordinates().replace()));
-        }
-        return Optional.of(template.getTemplate().apply(updateCursor(updated), updated.getCoordinates().replace(), (Object[]) args));
-      }
+  private Optional<MethodCall> applyTemplate(MethodCall original, MethodCall updated, MethodTemplateRegistry registry) {
+    Optional<MethodTemplate> maybeTemplate = registry.find(original);
+    if (!maybeTemplate.isPresent()) {
+      return Optional.empty(); // unhandled case
+    }
+    MethodTemplate template = maybeTemplate.get();
+    Expression[] args = template.getTemplateArgsFunc().apply(updated);
+    if (args.length == 0) {
+      return Optional.of(template.getTemplate().apply(updateCursor(updated), updated.getCoordinates().replace()));
     }
-    return Optional.empty(); // unhandled case
+    return Optional.of(template.getTemplate().apply(updateCursor(updated), updated.getCoordinates().replace(), (Object[]) args));
   }
 
   private boolean areArgumentsAssignable(MethodCall m) {
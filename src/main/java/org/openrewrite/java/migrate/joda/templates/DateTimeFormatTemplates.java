@@ -97,7 +97,13 @@ public class DateTimeFormatTemplates {
     }
   };
 
+  private static final MethodTemplateRegistry REGISTRY = new MethodTemplateRegistry(new DateTimeFormatTemplates().templates);
+
   public static List<MethodTemplate> getTemplates() {
-    return new DateTimeFormatTemplates().templates;
+    return REGISTRY.getTemplates();
+  }
+
+  public static MethodTemplateRegistry getRegistry() {
+    return REGISTRY;
   }
 }
@@ -341,7 +341,13 @@ public class DateTimeTemplates {
     }
   };
 
+  private static final MethodTemplateRegistry REGISTRY = new MethodTemplateRegistry(new DateTimeTemplates().templates);
+
   public static List<MethodTemplate> getTemplates() {
-    return new DateTimeTemplates().templates;
+    return REGISTRY.getTemplates();
+  }
+
+  public static MethodTemplateRegistry getRegistry() {
+    return REGISTRY;
   }
 }
@@ -164,7 +164,13 @@ public class DurationTemplates {
     }
   };
 
+  private static final MethodTemplateRegistry REGISTRY = new MethodTemplateRegistry(new DurationTemplates().templates);
+
   public static List<MethodTemplate> getTemplates() {
-    return new DurationTemplates().templates;
+    return REGISTRY.getTemplates();
+  }
+
+  public static MethodTemplateRegistry getRegistry() {
+    return REGISTRY;
   }
 }
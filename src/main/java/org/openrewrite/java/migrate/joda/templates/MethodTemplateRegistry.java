@@ -0,0 +1,87 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.joda.templates;
+
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.MethodCall;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An immutable set of {@link MethodTemplate}s, built once per JVM, that resolves the template for a method call
+ * with a single hash lookup on the declaring type, method name and parameter types of the call.
+ * <p>
+ * Whether a template's matcher applies only depends on that signature, so the first template matching a signature
+ * is computed once and remembered, rather than evaluating every matcher for every call.
+ */
+public class MethodTemplateRegistry {
+  private final List<MethodTemplate> templates;
+  private final Map<Signature, Optional<MethodTemplate>> bySignature = new ConcurrentHashMap<>();
+
+  public MethodTemplateRegistry(List<MethodTemplate> templates) {
+    this.templates = Collections.unmodifiableList(new ArrayList<>(templates));
+  }
+
+  public List<MethodTemplate> getTemplates() {
+    return templates;
+  }
+
+  public Optional<MethodTemplate> find(MethodCall call) {
+    JavaType.Method methodType = call.getMethodType();
+    if (methodType == null) {
+      return Optional.empty();
+    }
+    return bySignature.computeIfAbsent(Signature.of(methodType), s -> {
+      for (MethodTemplate template : templates) {
+        if (template.getMatcher().matches(call)) {
+          return Optional.of(template);
+        }
+      }
+      return Optional.empty();
+    });
+  }
+
+  @Value
+  private static class Signature {
+    String declaringType;
+    String name;
+    List<String> parameterTypes;
+
+    static Signature of(JavaType.Method methodType) {
+      List<String> parameterTypes = new ArrayList<>(methodType.getParameterTypes().size());
+      for (JavaType parameterType : methodType.getParameterTypes()) {
+        parameterTypes.add(typeName(parameterType));
+      }
+      return new Signature(methodType.getDeclaringType().getFullyQualifiedName(), methodType.getName(), parameterTypes);
+    }
+
+    private static String typeName(@Nullable JavaType type) {
+      if (type instanceof JavaType.FullyQualified) {
+        return ((JavaType.FullyQualified) type).getFullyQualifiedName();
+      }
+      if (type instanceof JavaType.Primitive) {
+        return ((JavaType.Primitive) type).getKeyword();
+      }
+      if (type instanceof JavaType.Array) {
+        return typeName(((JavaType.Array) type).getElemType()) + "[]";
+      }
+      return String.valueOf(type);
+    }
+  }
+}
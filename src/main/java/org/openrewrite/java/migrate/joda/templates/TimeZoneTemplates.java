@@ -50,7 +50,13 @@ public class TimeZoneTemplates {
     }
   };
 
-  public static List<MethodTemplate>  getTemplates() {
-    return new TimeZoneTemplates().templates;
+  private static final MethodTemplateRegistry REGISTRY = new MethodTemplateRegistry(new TimeZoneTemplates().templates);
+
+  public static List<MethodTemplate> getTemplates() {
+    return REGISTRY.getTemplates();
+  }
+
+  public static MethodTemplateRegistry getRegistry() {
+    return REGISTRY;
   }
 }
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.lang;
+
+import org.openrewrite.java.migrate.IndexedRecipeCollection;
+
+public class StringRulesIndexed extends IndexedRecipeCollection {
+
+    @Override
+    public String getDisplayName() {
+        return "A collection of `String` rules, run by method name";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Runs the `StringRules` recipes, but only those whose before templates invoke a `String` method that " +
+               "the source file uses.";
+    }
+
+    @Override
+    protected void index(Rules rules) {
+        rules.add(new StringRulesRecipes.RedundantCallRecipe(),
+                        "java.lang.String substring(..)", "java.lang.String toString()")
+                .add(new StringRulesRecipes.IndexOfStringRecipe(), "java.lang.String indexOf(java.lang.String, int)")
+                .add(new StringRulesRecipes.IndexOfCharRecipe(), "java.lang.String indexOf(int, int)")
+                .add(new StringRulesRecipes.UseEqualsIgnoreCaseRecipe(),
+                        "java.lang.String toLowerCase()", "java.lang.String toUpperCase()");
+    }
+}
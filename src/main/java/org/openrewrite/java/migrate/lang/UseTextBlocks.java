@@ -31,11 +31,10 @@ import org.openrewrite.java.tree.TypeUtils;
 import org.openrewrite.marker.Markers;
 import org.openrewrite.staticanalysis.kotlin.KotlinFileChecker;
 
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Base64;
+import java.util.Deque;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -90,38 +89,29 @@ public class UseTextBlocks extends Recipe {
                 StringBuilder contentSb = new StringBuilder();
                 StringBuilder concatenationSb = new StringBuilder();
 
-                boolean allLiterals = allLiterals(binary);
+                boolean allLiterals = flatAdditiveStringLiterals(binary, stringLiterals, contentSb, concatenationSb);
                 if (!allLiterals) {
                     return binary; // Not super.visitBinary(binary, ctx) because we don't want to visit the children
                 }
 
-                boolean flattenable = flatAdditiveStringLiterals(binary, stringLiterals, contentSb, concatenationSb);
-                if (!flattenable) {
-                    return super.visitBinary(binary, ctx);
-                }
-
+                // Any nested binary is a prefix of this chain, so when the chain as a whole does not qualify none of
+                // its parts do either, and there is no need to visit the children
                 boolean hasNewLineInConcatenation = containsNewLineInContent(concatenationSb.toString());
                 if (!hasNewLineInConcatenation) {
-                    return super.visitBinary(binary, ctx);
+                    return binary;
                 }
 
                 String content = contentSb.toString();
 
                 if (!convertStringsWithoutNewlines && !containsNewLineInContent(content)) {
-                    return super.visitBinary(binary, ctx);
+                    return binary;
                 }
 
                 return toTextBlock(binary, content, stringLiterals, concatenationSb.toString());
             }
 
-
             private J.Literal toTextBlock(J.Binary binary, String content, List<J.Literal> stringLiterals, String concatenation) {
-                final String passPhrase;
-                try {
-                    passPhrase = generatePassword(content);
-                } catch (NoSuchAlgorithmException e) {
-                    throw new RuntimeException(e);
-                }
+                String passPhrase = lineContinuationMarker(content);
 
                 StringBuilder sb = new StringBuilder();
                 StringBuilder originalContent = new StringBuilder();
@@ -186,34 +176,39 @@ public class UseTextBlocks extends Recipe {
         });
     }
 
-    private static boolean allLiterals(Expression exp) {
-        return isRegularStringLiteral(exp) || exp instanceof J.Binary &&
-                                              ((J.Binary) exp).getOperator() == J.Binary.Type.Addition &&
-                                              allLiterals(((J.Binary) exp).getLeft()) && allLiterals(((J.Binary) exp).getRight());
-    }
-
-    private static boolean flatAdditiveStringLiterals(Expression expression,
+    /**
+     * Flattens a chain of string concatenations in a single pass, without recursion, so that also chains with
+     * thousands of terms can be processed in linear time.
+     *
+     * @return {@code false} if the chain contains anything other than additions of regular string literals
+     */
+    private static boolean flatAdditiveStringLiterals(J.Binary binary,
                                                       List<J.Literal> stringLiterals,
                                                       StringBuilder contentSb,
                                                       StringBuilder concatenationSb) {
-        if (expression instanceof J.Binary) {
-            J.Binary b = (J.Binary) expression;
-            if (b.getOperator() != J.Binary.Type.Addition) {
+        Deque<Expression> stack = new ArrayDeque<>();
+        stack.push(binary);
+        while (!stack.isEmpty()) {
+            Expression expression = stack.pop();
+            if (expression instanceof J.Binary) {
+                J.Binary b = (J.Binary) expression;
+                if (b.getOperator() != J.Binary.Type.Addition) {
+                    return false;
+                }
+                concatenationSb.append(b.getPrefix().getWhitespace()).append("-");
+                concatenationSb.append(b.getPadding().getOperator().getBefore().getWhitespace()).append("-");
+                stack.push(b.getRight());
+                stack.push(b.getLeft());
+            } else if (isRegularStringLiteral(expression)) {
+                J.Literal l = (J.Literal) expression;
+                stringLiterals.add(l);
+                contentSb.append(requireNonNull(l.getValue()));
+                concatenationSb.append(l.getPrefix().getWhitespace()).append("-");
+            } else {
                 return false;
             }
-            concatenationSb.append(b.getPrefix().getWhitespace()).append("-");
-            concatenationSb.append(b.getPadding().getOperator().getBefore().getWhitespace()).append("-");
-            return flatAdditiveStringLiterals(b.getLeft(), stringLiterals, contentSb, concatenationSb) &&
-                   flatAdditiveStringLiterals(b.getRight(), stringLiterals, contentSb, concatenationSb);
-        } else if (isRegularStringLiteral(expression)) {
-            J.Literal l = (J.Literal) expression;
-            stringLiterals.add(l);
-            contentSb.append(requireNonNull(l.getValue()));
-            concatenationSb.append(l.getPrefix().getWhitespace()).append("-");
-            return true;
         }
-
-        return false;
+        return true;
     }
 
     private static boolean isRegularStringLiteral(Expression expr) {
@@ -300,20 +295,15 @@ public class UseTextBlocks extends Recipe {
         return shortestPair;
     }
 
-    private static String generatePassword(String originalStr) throws NoSuchAlgorithmException {
-        final String SALT = "kun";
-        String saltedStr = originalStr + SALT;
-
-        MessageDigest md = MessageDigest.getInstance("SHA-256");
-        byte[] hashBytes = md.digest(saltedStr.getBytes());
-
-        String password = Base64.getEncoder().encodeToString(hashBytes);
-
-        while (originalStr.contains(password)) {
-            hashBytes = md.digest(password.getBytes());
-            password = Base64.getEncoder().encodeToString(hashBytes);
+    /**
+     * @return a character from the private use area that does not occur in the content, to temporarily mark where
+     * line continuations go
+     */
+    private static String lineContinuationMarker(String content) {
+        char marker = '\uE000';
+        while (content.indexOf(marker) >= 0) {
+            marker++;
         }
-
-        return password;
+        return String.valueOf(marker);
     }
 }
@@ -37,11 +37,20 @@ final class DeclarationCheck {
      * @return true if var is applicable in general
      */
     public static boolean isVarApplicable(Cursor cursor, J.VariableDeclarations vd) {
-        if (isField(vd, cursor) || isMethodParameter(vd, cursor) || !isSingleVariableDefinition(vd) || initializedByTernary(vd)) {
-            return false;
-        }
+        return isApplicableDeclaration(cursor, vd) && (isInsideMethod(cursor) || isInsideInitializer(cursor, 0));
+    }
 
-        return isInsideMethod(cursor) || isInsideInitializer(cursor, 0);
+    /**
+     * Determine if var is applicable with regard to the declaration alone, for visitors that already know whether they
+     * are inside a method or an initializer block.
+     *
+     * @param cursor location of the visitor
+     * @param vd     variable definition at question
+     * @return true if var is applicable to a declaration inside a method or initializer block
+     */
+    static boolean isApplicableDeclaration(Cursor cursor, J.VariableDeclarations vd) {
+        return isSingleVariableDefinition(vd) && !initializedByTernary(vd) &&
+               !isField(vd, cursor) && !isMethodParameter(vd, cursor);
     }
 
     /**
@@ -162,8 +171,9 @@ final class DeclarationCheck {
      * @return true iff vd is part of a method declaration
      */
     private static boolean isMethodParameter(J.VariableDeclarations vd, Cursor cursor) {
-        J.MethodDeclaration methodDeclaration = cursor.firstEnclosing(J.MethodDeclaration.class);
-        return methodDeclaration != null && methodDeclaration.getParameters().contains(vd);
+        // the body of a method is a block, so only its parameters have the method declaration as their parent
+        Cursor parent = cursor.getParentTreeCursor();
+        return parent.getValue() instanceof J.MethodDeclaration;
     }
 
     /**
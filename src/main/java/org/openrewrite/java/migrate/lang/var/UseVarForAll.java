@@ -0,0 +1,147 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.lang.var;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.search.UsesJavaVersion;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class UseVarForAll extends Recipe {
+
+    @Override
+    public String getDisplayName() {
+        //language=markdown
+        return "Use `var` for primitive, reference and generic variables";
+    }
+
+    @Override
+    public String getDescription() {
+        //language=markdown
+        return "Applies `UseVarForObject`, `UseVarForPrimitive`, `UseVarForGenericsConstructors` and " +
+               "`UseVarForGenericMethodInvocations` in a single pass over each source file. Whether a declaration is " +
+               "inside a method or an initializer block is tracked on the way down, rather than looked up again for " +
+               "every variable declaration.";
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(
+                new UsesJavaVersion<>(10),
+                new UseVarForAllVisitor());
+    }
+
+    /**
+     * The innermost construct deciding whether local variable declarations may use var.
+     */
+    private enum Scope {
+        CLASS,
+        METHOD,
+
+        /**
+         * An instance or static initializer block, which makes var applicable to everything below it,
+         * including the methods of local classes.
+         */
+        INITIALIZER
+    }
+
+    static final class UseVarForAllVisitor extends JavaIsoVisitor<ExecutionContext> {
+        private static final String SCOPE = "SCOPE";
+
+        private final JavaParser.Builder<?, ?> javaParser = JavaParser.fromJavaVersion();
+
+        private final JavaTemplate contextSensitiveTemplate = JavaTemplate.builder("var #{} = #{any()}")
+                .contextSensitive()
+                .javaParser(javaParser)
+                .build();
+
+        private final JavaTemplate template = JavaTemplate.builder("var #{} = #{any()}")
+                .javaParser(javaParser)
+                .build();
+
+        @Override
+        public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+            enterScope(Scope.CLASS);
+            return super.visitClassDeclaration(classDecl, ctx);
+        }
+
+        @Override
+        public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+            enterScope(Scope.METHOD);
+            return super.visitMethodDeclaration(method, ctx);
+        }
+
+        @Override
+        public J.Block visitBlock(J.Block block, ExecutionContext ctx) {
+            Cursor parent = getCursor().getParentTreeCursor();
+            if (parent.getValue() instanceof J.Block && parent.getParentTreeCursor().getValue() instanceof J.ClassDeclaration) {
+                enterScope(Scope.INITIALIZER);
+            }
+            return super.visitBlock(block, ctx);
+        }
+
+        @Override
+        public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations vd, ExecutionContext ctx) {
+            vd = super.visitVariableDeclarations(vd, ctx);
+
+            Scope scope = getCursor().getNearestMessage(SCOPE);
+            if (scope == null || scope == Scope.CLASS || !DeclarationCheck.isApplicableDeclaration(getCursor(), vd)) {
+                return vd;
+            }
+
+            if (DeclarationCheck.isPrimitive(vd)) {
+                // no need to remove imports, because primitives are never imported
+                return UseVarForPrimitive.appliesTo(vd) ?
+                        UseVarForPrimitive.transformToVar(getCursor(), template, vd) : vd;
+            }
+
+            J.VariableDeclarations result;
+            if (UseVarForObject.appliesTo(vd)) {
+                result = UseVarForObject.transformToVar(getCursor(), contextSensitiveTemplate, vd);
+            } else if (UseVarForGenericsConstructors.appliesTo(vd)) {
+                result = UseVarForGenericsConstructors.transformToVar(getCursor(), contextSensitiveTemplate, vd);
+            } else if (UseVarForGenericMethodInvocations.appliesTo(vd)) {
+                result = UseVarForGenericMethodInvocations.transformToVar(getCursor(), template, vd);
+            } else {
+                return vd;
+            }
+
+            // mark imports for removal if unused
+            if (vd.getType() instanceof JavaType.FullyQualified) {
+                maybeRemoveImport((JavaType.FullyQualified) vd.getType());
+            }
+            return result;
+        }
+
+        private void enterScope(Scope scope) {
+            // like DeclarationCheck#isInsideInitializer, an enclosing initializer block takes precedence
+            if (getCursor().getNearestMessage(SCOPE) != Scope.INITIALIZER) {
+                getCursor().putMessage(SCOPE, scope);
+            }
+        }
+    }
+}
@@ -21,13 +21,9 @@ import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.search.UsesJavaVersion;
 import org.openrewrite.java.tree.*;
-import org.openrewrite.marker.Markers;
 
-import java.util.ArrayList;
 import java.util.List;
 
-import static java.util.Collections.emptyList;
-
 public class UseVarForGenericMethodInvocations extends Recipe {
     @Override
     public String getDisplayName() {
@@ -58,29 +54,7 @@ public class UseVarForGenericMethodInvocations extends Recipe {
             vd = super.visitVariableDeclarations(vd, ctx);
 
             boolean isGeneralApplicable = DeclarationCheck.isVarApplicable(this.getCursor(), vd);
-            if (!isGeneralApplicable) {
-                return vd;
-            }
-
-            // recipe specific
-            boolean isPrimitive = DeclarationCheck.isPrimitive(vd);
-            boolean usesNoGenerics = !DeclarationCheck.useGenerics(vd);
-            boolean usesTernary = DeclarationCheck.initializedByTernary(vd);
-            if (isPrimitive || usesTernary || usesNoGenerics) {
-                return vd;
-            }
-
-            //now we deal with generics, check for method invocations
-            Expression initializer = vd.getVariables().get(0).getInitializer();
-            boolean isMethodInvocation = initializer != null && initializer.unwrap() instanceof J.MethodInvocation;
-            if (!isMethodInvocation) {
-                return vd;
-            }
-
-            //if no type paramters are present and no arguments we assume the type is hard to determine a needs manual action
-            boolean hasNoTypeParams = ((J.MethodInvocation) initializer).getTypeParameters() == null;
-            boolean argumentsEmpty = allArgumentsEmpty((J.MethodInvocation) initializer);
-            if (hasNoTypeParams && argumentsEmpty) {
+            if (!isGeneralApplicable || !appliesTo(vd)) {
                 return vd;
             }
 
@@ -89,51 +63,62 @@ public class UseVarForGenericMethodInvocations extends Recipe {
                 maybeRemoveImport( (JavaType.FullyQualified) vd.getType() );
             }
 
-            return transformToVar(vd, new ArrayList<>(), new ArrayList<>());
+            return transformToVar(getCursor(), template, vd);
+        }
+    }
+
+    static boolean appliesTo(J.VariableDeclarations vd) {
+        boolean isPrimitive = DeclarationCheck.isPrimitive(vd);
+        boolean usesNoGenerics = !DeclarationCheck.useGenerics(vd);
+        boolean usesTernary = DeclarationCheck.initializedByTernary(vd);
+        if (isPrimitive || usesTernary || usesNoGenerics) {
+            return false;
         }
 
-        private static boolean allArgumentsEmpty(J.MethodInvocation invocation) {
-            for (Expression argument : invocation.getArguments()) {
-                if (!(argument instanceof J.Empty)) {
-                    return false;
-                }
-            }
-            return true;
+        //now we deal with generics, check for method invocations
+        Expression initializer = vd.getVariables().get(0).getInitializer();
+        if (initializer == null || !(initializer.unwrap() instanceof J.MethodInvocation)) {
+            return false;
         }
 
-        private J.VariableDeclarations transformToVar(J.VariableDeclarations vd, List<JavaType> leftTypes, List<JavaType> rightTypes) {
-            Expression initializer = vd.getVariables().get(0).getInitializer();
-            String simpleName = vd.getVariables().get(0).getSimpleName();
-
-            // if left is defined but not right, copy types to initializer
-            if (rightTypes.isEmpty() && !leftTypes.isEmpty()) {
-                // we need to switch type infos from left to right here
-                List<Expression> typeArgument = new ArrayList<>();
-                for (JavaType t : leftTypes) {
-                    typeArgument.add(new J.Identifier(Tree.randomId(), Space.EMPTY, Markers.EMPTY, emptyList(), ((JavaType.Class) t).getClassName(), t, null));
-                }
-                J.ParameterizedType typedInitializerClazz = ((J.ParameterizedType) ((J.NewClass) initializer).getClazz()).withTypeParameters(typeArgument);
-                initializer = ((J.NewClass) initializer).withClazz(typedInitializerClazz);
+        //if no type paramters are present and no arguments we assume the type is hard to determine a needs manual action
+        J.MethodInvocation invocation = (J.MethodInvocation) initializer.unwrap();
+        boolean hasNoTypeParams = invocation.getTypeParameters() == null;
+        boolean argumentsEmpty = allArgumentsEmpty(invocation);
+        return !hasNoTypeParams || !argumentsEmpty;
+    }
+
+    private static boolean allArgumentsEmpty(J.MethodInvocation invocation) {
+        for (Expression argument : invocation.getArguments()) {
+            if (!(argument instanceof J.Empty)) {
+                return false;
             }
+        }
+        return true;
+    }
 
-            J.VariableDeclarations result = template.<J.VariableDeclarations>apply(getCursor(), vd.getCoordinates().replace(), simpleName, initializer)
-                    .withPrefix(vd.getPrefix());
+    static J.VariableDeclarations transformToVar(Cursor cursor, JavaTemplate template, J.VariableDeclarations vd) {
+        Expression initializer = vd.getVariables().get(0).getInitializer();
+        String simpleName = vd.getVariables().get(0).getSimpleName();
 
-            // apply modifiers like final
-            List<J.Modifier> modifiers = vd.getModifiers();
-            boolean hasModifiers = !modifiers.isEmpty();
-            if (hasModifiers) {
-                result = result.withModifiers(modifiers);
-            }
+        J.VariableDeclarations result = template.<J.VariableDeclarations>apply(cursor, vd.getCoordinates().replace(), simpleName, initializer)
+                .withPrefix(vd.getPrefix());
 
-            // apply prefix to type expression
-            TypeTree resultingTypeExpression = result.getTypeExpression();
-            boolean resultHasTypeExpression = resultingTypeExpression != null;
-            if (resultHasTypeExpression) {
-                result = result.withTypeExpression(resultingTypeExpression.withPrefix(vd.getTypeExpression().getPrefix()));
-            }
+        // apply modifiers like final
+        List<J.Modifier> modifiers = vd.getModifiers();
+        boolean hasModifiers = !modifiers.isEmpty();
+        if (hasModifiers) {
+            result = result.withModifiers(modifiers);
+        }
 
-            return result;
+        // apply prefix to type expression
+        TypeTree resultingTypeExpression = result.getTypeExpression();
+        boolean resultHasTypeExpression = resultingTypeExpression != null;
+        if (resultHasTypeExpression) {
+            //noinspection DataFlowIssue
+            result = result.withTypeExpression(resultingTypeExpression.withPrefix(vd.getTypeExpression().getPrefix()));
         }
+
+        return result;
     }
 }
@@ -17,6 +17,7 @@ package org.openrewrite.java.migrate.lang.var;
 
 import lombok.EqualsAndHashCode;
 import lombok.Value;
+import org.openrewrite.Cursor;
 import org.openrewrite.ExecutionContext;
 import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
@@ -68,15 +69,7 @@ public class UseVarForObject extends Recipe {
             vd = super.visitVariableDeclarations(vd, ctx);
 
             boolean isGeneralApplicable = DeclarationCheck.isVarApplicable(getCursor(), vd);
-            if (!isGeneralApplicable) {
-                return vd;
-            }
-
-            boolean isPrimitive = DeclarationCheck.isPrimitive(vd);
-            boolean usesGenerics = DeclarationCheck.useGenerics(vd);
-            boolean usesTernary = DeclarationCheck.initializedByTernary(vd);
-            boolean usesArrayInitializer = vd.getVariables().get(0).getInitializer() instanceof J.NewArray;
-            if (isPrimitive || usesGenerics || usesTernary || usesArrayInitializer) {
+            if (!isGeneralApplicable || !appliesTo(vd)) {
                 return vd;
             }
 
@@ -85,25 +78,36 @@ public class UseVarForObject extends Recipe {
                 maybeRemoveImport( (JavaType.FullyQualified) vd.getType() );
             }
 
-            return transformToVar(vd);
+            return transformToVar(getCursor(), template, vd);
         }
+    }
 
+    /**
+     * Recipe specific checks, to be combined with {@link DeclarationCheck#isVarApplicable}.
+     */
+    static boolean appliesTo(J.VariableDeclarations vd) {
+        boolean isPrimitive = DeclarationCheck.isPrimitive(vd);
+        boolean usesGenerics = DeclarationCheck.useGenerics(vd);
+        boolean usesTernary = DeclarationCheck.initializedByTernary(vd);
+        boolean usesArrayInitializer = vd.getVariables().get(0).getInitializer() instanceof J.NewArray;
+        return !isPrimitive && !usesGenerics && !usesTernary && !usesArrayInitializer;
+    }
 
-        private J.VariableDeclarations transformToVar(J.VariableDeclarations vd) {
-            Expression initializer = vd.getVariables().get(0).getInitializer();
-            String simpleName = vd.getVariables().get(0).getSimpleName();
-
-            if (vd.getModifiers().isEmpty()) {
-                return template.apply(getCursor(), vd.getCoordinates().replace(), simpleName, initializer)
-                        .withPrefix(vd.getPrefix());
-            } else {
-                J.VariableDeclarations result = template.<J.VariableDeclarations>apply(getCursor(), vd.getCoordinates().replace(), simpleName, initializer)
-                        .withModifiers(vd.getModifiers())
-                        .withPrefix(vd.getPrefix());
-                TypeTree typeExpression = result.getTypeExpression();
-                //noinspection DataFlowIssue
-                return typeExpression != null ? result.withTypeExpression(typeExpression.withPrefix(vd.getTypeExpression().getPrefix())) : vd;
-            }
+
+    static J.VariableDeclarations transformToVar(Cursor cursor, JavaTemplate template, J.VariableDeclarations vd) {
+        Expression initializer = vd.getVariables().get(0).getInitializer();
+        String simpleName = vd.getVariables().get(0).getSimpleName();
+
+        if (vd.getModifiers().isEmpty()) {
+            return template.apply(cursor, vd.getCoordinates().replace(), simpleName, initializer)
+                    .withPrefix(vd.getPrefix());
+        } else {
+            J.VariableDeclarations result = template.<J.VariableDeclarations>apply(cursor, vd.getCoordinates().replace(), simpleName, initializer)
+                    .withModifiers(vd.getModifiers())
+                    .withPrefix(vd.getPrefix());
+            TypeTree typeExpression = result.getTypeExpression();
+            //noinspection DataFlowIssue
+            return typeExpression != null ? result.withTypeExpression(typeExpression.withPrefix(vd.getTypeExpression().getPrefix())) : vd;
         }
     }
 }
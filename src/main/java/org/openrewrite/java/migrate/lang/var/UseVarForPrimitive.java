@@ -17,6 +17,7 @@ package org.openrewrite.java.migrate.lang.var;
 
 import lombok.EqualsAndHashCode;
 import lombok.Value;
+import org.openrewrite.Cursor;
 import org.openrewrite.ExecutionContext;
 import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
@@ -35,6 +36,9 @@ import static java.lang.String.format;
 @EqualsAndHashCode(callSuper = false)
 public class UseVarForPrimitive extends Recipe {
 
+    private static final JavaType.Primitive SHORT_TYPE = JavaType.Primitive.Short;
+    private static final JavaType.Primitive BYTE_TYPE = JavaType.Primitive.Byte;
+
     @Override
     public String getDisplayName() {
         //language=markdown
@@ -59,9 +63,6 @@ public class UseVarForPrimitive extends Recipe {
 
     static final class VarForPrimitivesVisitor extends JavaIsoVisitor<ExecutionContext> {
 
-        private final JavaType.Primitive SHORT_TYPE = JavaType.Primitive.Short;
-        private final JavaType.Primitive BYTE_TYPE = JavaType.Primitive.Byte;
-
         private final JavaTemplate template = JavaTemplate.builder("var #{} = #{any()}")
                 .javaParser(JavaParser.fromJavaVersion()).build();
 
@@ -71,73 +72,72 @@ public class UseVarForPrimitive extends Recipe {
             vd = super.visitVariableDeclarations(vd, ctx);
 
             boolean isGeneralApplicable = DeclarationCheck.isVarApplicable(this.getCursor(), vd);
-            if (!isGeneralApplicable) {
-                return vd;
-            }
-
-            // recipe specific
-            boolean isNoPrimitive = !DeclarationCheck.isPrimitive(vd);
-            boolean isByteVariable = DeclarationCheck.declarationHasType(vd, BYTE_TYPE);
-            boolean isShortVariable = DeclarationCheck.declarationHasType(vd, SHORT_TYPE);
-            if (isNoPrimitive || isByteVariable || isShortVariable) {
+            if (!isGeneralApplicable || !appliesTo(vd)) {
                 return vd;
             }
 
             // no need to remove imports, because primitives are never imported
 
-            return transformToVar(vd);
+            return transformToVar(getCursor(), template, vd);
         }
+    }
 
+    static boolean appliesTo(J.VariableDeclarations vd) {
+        boolean isNoPrimitive = !DeclarationCheck.isPrimitive(vd);
+        boolean isByteVariable = DeclarationCheck.declarationHasType(vd, BYTE_TYPE);
+        boolean isShortVariable = DeclarationCheck.declarationHasType(vd, SHORT_TYPE);
+        return !isNoPrimitive && !isByteVariable && !isShortVariable;
+    }
 
-        private J.VariableDeclarations transformToVar(J.VariableDeclarations vd) {
-            Expression initializer = vd.getVariables().get(0).getInitializer();
-            String simpleName = vd.getVariables().get(0).getSimpleName();
 
-            if (initializer instanceof J.Literal) {
-                initializer = expandWithPrimitivTypeHint(vd, initializer);
-            }
+    static J.VariableDeclarations transformToVar(Cursor cursor, JavaTemplate template, J.VariableDeclarations vd) {
+        Expression initializer = vd.getVariables().get(0).getInitializer();
+        String simpleName = vd.getVariables().get(0).getSimpleName();
 
-            if (vd.getModifiers().isEmpty()) {
-                return template.apply(getCursor(), vd.getCoordinates().replace(), simpleName, initializer)
-                        .withPrefix(vd.getPrefix());
-            } else {
-                J.VariableDeclarations result = template.<J.VariableDeclarations>apply(getCursor(), vd.getCoordinates().replace(), simpleName, initializer)
-                        .withModifiers(vd.getModifiers())
-                        .withPrefix(vd.getPrefix());
-                //noinspection DataFlowIssue
-                return result.withTypeExpression(result.getTypeExpression().withPrefix(vd.getTypeExpression().getPrefix()));
-            }
+        if (initializer instanceof J.Literal) {
+            initializer = expandWithPrimitivTypeHint(vd, initializer);
         }
 
+        if (vd.getModifiers().isEmpty()) {
+            return template.apply(cursor, vd.getCoordinates().replace(), simpleName, initializer)
+                    .withPrefix(vd.getPrefix());
+        } else {
+            J.VariableDeclarations result = template.<J.VariableDeclarations>apply(cursor, vd.getCoordinates().replace(), simpleName, initializer)
+                    .withModifiers(vd.getModifiers())
+                    .withPrefix(vd.getPrefix());
+            //noinspection DataFlowIssue
+            return result.withTypeExpression(result.getTypeExpression().withPrefix(vd.getTypeExpression().getPrefix()));
+        }
+    }
 
-        private Expression expandWithPrimitivTypeHint(J.VariableDeclarations vd, Expression initializer) {
-            String valueSource = ((J.Literal) initializer).getValueSource();
 
-            if (valueSource == null) {
-                return initializer;
-            }
+    private static Expression expandWithPrimitivTypeHint(J.VariableDeclarations vd, Expression initializer) {
+        String valueSource = ((J.Literal) initializer).getValueSource();
 
-            boolean isLongLiteral = JavaType.Primitive.Long.equals(vd.getType());
-            boolean inferredAsLong = valueSource.endsWith("l") || valueSource.endsWith("L");
-            boolean isFloatLiteral = JavaType.Primitive.Float.equals(vd.getType());
-            boolean inferredAsFloat = valueSource.endsWith("f") || valueSource.endsWith("F");
-            boolean isDoubleLiteral = JavaType.Primitive.Double.equals(vd.getType());
-            boolean inferredAsDouble = valueSource.endsWith("d") || valueSource.endsWith("D") || valueSource.contains(".");
-
-            String typNotation = null;
-            if (isLongLiteral && !inferredAsLong) {
-                typNotation = "L";
-            } else if (isFloatLiteral && !inferredAsFloat) {
-                typNotation = "F";
-            } else if (isDoubleLiteral && !inferredAsDouble) {
-                typNotation = "D";
-            }
+        if (valueSource == null) {
+            return initializer;
+        }
 
-            if (typNotation != null) {
-                initializer = ((J.Literal) initializer).withValueSource(format("%s%s", valueSource, typNotation));
-            }
+        boolean isLongLiteral = JavaType.Primitive.Long.equals(vd.getType());
+        boolean inferredAsLong = valueSource.endsWith("l") || valueSource.endsWith("L");
+        boolean isFloatLiteral = JavaType.Primitive.Float.equals(vd.getType());
+        boolean inferredAsFloat = valueSource.endsWith("f") || valueSource.endsWith("F");
+        boolean isDoubleLiteral = JavaType.Primitive.Double.equals(vd.getType());
+        boolean inferredAsDouble = valueSource.endsWith("d") || valueSource.endsWith("D") || valueSource.contains(".");
+
+        String typNotation = null;
+        if (isLongLiteral && !inferredAsLong) {
+            typNotation = "L";
+        } else if (isFloatLiteral && !inferredAsFloat) {
+            typNotation = "F";
+        } else if (isDoubleLiteral && !inferredAsDouble) {
+            typNotation = "D";
+        }
 
-            return initializer;
+        if (typNotation != null) {
+            initializer = ((J.Literal) initializer).withValueSource(format("%s%s", valueSource, typNotation));
         }
+
+        return initializer;
     }
 }
@@ -25,6 +25,8 @@ import org.openrewrite.java.AnnotationMatcher;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.RemoveAnnotationVisitor;
+import org.openrewrite.java.migrate.cache.ReplayableScanningRecipe;
+import org.openrewrite.java.migrate.search.UsesCollectedType;
 import org.openrewrite.java.search.UsesJavaVersion;
 import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.*;
@@ -39,10 +41,12 @@ import static java.util.stream.Collectors.toList;
 
 @Value
 @EqualsAndHashCode(callSuper = false)
-public class LombokValueToRecord extends ScanningRecipe<Map<String, Set<String>>> {
+public class LombokValueToRecord extends ScanningRecipe<Map<String, Set<String>>>
+        implements ReplayableScanningRecipe<Map<String, Set<String>>> {
 
     private static final AnnotationMatcher LOMBOK_VALUE_MATCHER = new AnnotationMatcher("@lombok.Value()");
     private static final AnnotationMatcher LOMBOK_BUILDER_MATCHER = new AnnotationMatcher("@lombok.Builder()");
+    private static final String INTERFACE_FLUENT_METHOD_NAMES = LombokValueToRecord.class.getName() + ".interfaceFluentMethodNames";
 
     @Option(displayName = "Add a `toString()` implementation matching Lombok",
             description = "When set the `toString` format from Lombok is used in the migrated record.",
@@ -79,9 +83,31 @@ public class LombokValueToRecord extends ScanningRecipe<Map<String, Set<String>>
         return Preconditions.check(check, new ScannerVisitor(acc));
     }
 
+    @Override
+    public List<String> contributions(Map<String, Set<String>> acc) {
+        List<String> contributions = new ArrayList<>(acc.size());
+        acc.forEach((type, members) -> contributions.add(type + '\t' + String.join(",", members)));
+        return contributions;
+    }
+
+    @Override
+    public void replay(Map<String, Set<String>> acc, String contribution) {
+        int tab = contribution.indexOf('\t');
+        Set<String> members = new LinkedHashSet<>();
+        if (tab + 1 < contribution.length()) {
+            Collections.addAll(members, contribution.substring(tab + 1).split(","));
+        }
+        acc.putIfAbsent(contribution.substring(0, tab), members);
+    }
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor(Map<String, Set<String>> recordTypesToMembers) {
-        return new LombokValueToRecord.LombokValueToRecordVisitor(useExactToString, recordTypesToMembers);
+        if (recordTypesToMembers.isEmpty()) {
+            return TreeVisitor.noop();
+        }
+        return Preconditions.check(
+                new UsesCollectedType<>(type -> recordTypesToMembers.containsKey(type.getFullyQualifiedName())),
+                new LombokValueToRecord.LombokValueToRecordVisitor(useExactToString, recordTypesToMembers));
     }
 
 
@@ -103,7 +129,7 @@ public class LombokValueToRecord extends ScanningRecipe<Map<String, Set<String>>
 
             assert cd.getType() != null : "Class type must not be null"; // Checked in isRelevantClass
             Set<String> memberVariableNames = getMemberVariableNames(memberVariables);
-            if (implementsConflictingInterfaces(cd, memberVariableNames)) {
+            if (implementsConflictingInterfaces(cd, memberVariableNames, ctx)) {
                 return cd;
             }
 
@@ -148,34 +174,43 @@ public class LombokValueToRecord extends ScanningRecipe<Map<String, Set<String>>
          * @param classDeclaration
          * @return true if the class implements an interface with a getter method based on a member variable
          */
-        private boolean implementsConflictingInterfaces(J.ClassDeclaration classDeclaration, Set<String> memberVariableNames) {
+        private boolean implementsConflictingInterfaces(J.ClassDeclaration classDeclaration, Set<String> memberVariableNames, ExecutionContext ctx) {
             List<TypeTree> classDeclarationImplements = classDeclaration.getImplements();
             if (classDeclarationImplements == null) {
                 return false;
             }
+            Map<String, Set<String>> fluentNamesByInterface = ctx.computeMessageIfAbsent(INTERFACE_FLUENT_METHOD_NAMES, k -> new ConcurrentHashMap<>());
             return classDeclarationImplements.stream().anyMatch(implemented -> {
                 JavaType type = implemented.getType();
                 if (type instanceof JavaType.FullyQualified) {
-                    return isConflictingInterface((JavaType.FullyQualified) type, memberVariableNames);
+                    return !Collections.disjoint(getFluentMethodNames((JavaType.FullyQualified) type, fluentNamesByInterface), memberVariableNames);
                 } else {
                     return false;
                 }
             });
         }
 
-        private static boolean isConflictingInterface(JavaType.FullyQualified implemented, Set<String> memberVariableNames) {
-            boolean hasConflictingMethod = implemented.getMethods().stream()
-                    .map(JavaType.Method::getName)
-                    .map(LombokValueToRecordVisitor::getterMethodNameToFluentMethodName)
-                    .anyMatch(memberVariableNames::contains);
-            if (hasConflictingMethod) {
-                return true;
+        /**
+         * The methods of an interface and its super interfaces only depend on its fully qualified name, so the
+         * fluent method names they translate to are computed once per interface and shared by all candidate classes.
+         */
+        private static Set<String> getFluentMethodNames(JavaType.FullyQualified implemented, Map<String, Set<String>> fluentNamesByInterface) {
+            Set<String> fluentMethodNames = fluentNamesByInterface.get(implemented.getFullyQualifiedName());
+            if (fluentMethodNames != null) {
+                return fluentMethodNames;
+            }
+            fluentMethodNames = new HashSet<>();
+            for (JavaType.Method method : implemented.getMethods()) {
+                fluentMethodNames.add(LombokValueToRecordVisitor.getterMethodNameToFluentMethodName(method.getName()));
             }
             List<JavaType.FullyQualified> superInterfaces = implemented.getInterfaces();
             if (superInterfaces != null) {
-                return superInterfaces.stream().anyMatch(i -> isConflictingInterface(i, memberVariableNames));
+                for (JavaType.FullyQualified superInterface : superInterfaces) {
+                    fluentMethodNames.addAll(getFluentMethodNames(superInterface, fluentNamesByInterface));
+                }
             }
-            return false;
+            fluentNamesByInterface.putIfAbsent(implemented.getFullyQualifiedName(), fluentMethodNames);
+            return fluentMethodNames;
         }
 
         private boolean hasGenericTypeParameter(J.ClassDeclaration classDeclaration) {
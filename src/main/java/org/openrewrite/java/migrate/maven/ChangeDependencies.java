@@ -0,0 +1,149 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.maven;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Option;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.maven.MavenDownloadingException;
+import org.openrewrite.maven.MavenIsoVisitor;
+import org.openrewrite.maven.tree.GroupArtifact;
+import org.openrewrite.maven.tree.ResolvedPom;
+import org.openrewrite.xml.XPathMatcher;
+import org.openrewrite.xml.XmlIsoVisitor;
+import org.openrewrite.xml.tree.Xml;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class ChangeDependencies extends Recipe {
+    private static final XPathMatcher PROPERTY_MATCHER = new XPathMatcher("/project/properties/*");
+    private static final String PROPERTY_VERSIONS = "PROPERTY_VERSIONS";
+
+    @Option(displayName = "Dependency mappings",
+            description = "The dependencies to change, each as `oldGroupId:oldArtifactId:newGroupId:newArtifactId`, " +
+                          "optionally followed by `:newVersion`. The new version can be an exact version or a node-style " +
+                          "version selector, and is applied where the old dependency declares a version.",
+            example = "javax.activation:javax.activation-api:jakarta.activation:jakarta.activation-api:latest.release")
+    List<String> dependencyMappings;
+
+    @Override
+    public String getDisplayName() {
+        return "Change Maven dependencies";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Changes the coordinates of a whole table of dependencies and managed dependencies, like a sequence of " +
+               "`ChangeDependencyGroupIdAndArtifactId` and `ChangeManagedDependencyGroupIdAndArtifactId` recipes would. " +
+               "All mappings are applied to a pom in a single pass, after which the Maven model is resolved once. A " +
+               "version property defined in the pom itself is updated, while one inherited from a parent is replaced " +
+               "by the new version in the changed dependency.";
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        Map<GroupArtifact, DependencyMapping> mappings = DependencyMapping.parseAll(dependencyMappings);
+        return new MavenIsoVisitor<ExecutionContext>() {
+            @Override
+            public Xml.Document visitDocument(Xml.Document document, ExecutionContext ctx) {
+                Map<String, String> propertyVersions = new HashMap<>();
+                getCursor().putMessage(PROPERTY_VERSIONS, propertyVersions);
+                Xml.Document d = super.visitDocument(document, ctx);
+                if (!propertyVersions.isEmpty()) {
+                    d = (Xml.Document) new XmlIsoVisitor<Map<String, String>>() {
+                        @Override
+                        public Xml.Tag visitTag(Xml.Tag tag, Map<String, String> versions) {
+                            Xml.Tag t = super.visitTag(tag, versions);
+                            String version = versions.get(t.getName());
+                            if (version != null && PROPERTY_MATCHER.matches(getCursor())) {
+                                t = t.withValue(version);
+                            }
+                            return t;
+                        }
+                    }.visitNonNull(d, propertyVersions);
+                }
+                if (d != document) {
+                    maybeUpdateModel();
+                }
+                return d;
+            }
+
+            @Override
+            public Xml.Tag visitTag(Xml.Tag tag, ExecutionContext ctx) {
+                Xml.Tag t = super.visitTag(tag, ctx);
+                if (!isDependencyTag() && !isManagedDependencyTag()) {
+                    return t;
+                }
+                ResolvedPom pom = getResolutionResult().getPom();
+                String groupId = t.getChildValue("groupId").map(pom::getValue).orElse(null);
+                String artifactId = t.getChildValue("artifactId").map(pom::getValue).orElse(null);
+                if (groupId == null || artifactId == null) {
+                    return t;
+                }
+                DependencyMapping mapping = mappings.get(new GroupArtifact(groupId, artifactId));
+                if (mapping == null) {
+                    return t;
+                }
+
+                if (!groupId.equals(mapping.getNewGroupId())) {
+                    t = t.withChildValue("groupId", mapping.getNewGroupId());
+                }
+                if (!artifactId.equals(mapping.getNewArtifactId())) {
+                    t = t.withChildValue("artifactId", mapping.getNewArtifactId());
+                }
+                String version = t.getChildValue("version").orElse(null);
+                if (mapping.getNewVersion() == null || version == null) {
+                    return t;
+                }
+                String currentVersion = pom.getValue(version);
+                String newVersion;
+                try {
+                    newVersion = mapping.requiresAvailableVersions() ?
+                            mapping.selectVersion(currentVersion, downloadMetadata(mapping.getNewGroupId(),
+                                    mapping.getNewArtifactId(), ctx).getVersioning().getVersions()) :
+                            mapping.getNewVersion();
+                } catch (MavenDownloadingException e) {
+                    return e.warn(t);
+                }
+                if (newVersion == null || newVersion.equals(currentVersion)) {
+                    return t;
+                }
+                String property = property(version);
+                if (property == null) {
+                    return t.withChildValue("version", newVersion);
+                }
+                if (!pom.getRequested().getProperties().containsKey(property)) {
+                    // the property is inherited, so only this dependency can be moved to the new version
+                    return t.withChildValue("version", newVersion);
+                }
+                getCursor().<Map<String, String>>getNearestMessage(PROPERTY_VERSIONS).put(property, newVersion);
+                return t;
+            }
+        };
+    }
+
+    private static @Nullable String property(String version) {
+        return version.startsWith("${") && version.endsWith("}") ? version.substring(2, version.length() - 1) : null;
+    }
+}
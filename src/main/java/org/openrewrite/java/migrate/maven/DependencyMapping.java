@@ -0,0 +1,104 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.maven;
+
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Validated;
+import org.openrewrite.maven.tree.GroupArtifact;
+import org.openrewrite.semver.ExactVersion;
+import org.openrewrite.semver.Semver;
+import org.openrewrite.semver.VersionComparator;
+
+import java.util.*;
+
+/**
+ * One row of a dependency coordinate mapping table, written as
+ * {@code oldGroupId:oldArtifactId:newGroupId:newArtifactId[:newVersion]}.
+ */
+@Value
+public class DependencyMapping {
+    String oldGroupId;
+    String oldArtifactId;
+    String newGroupId;
+    String newArtifactId;
+
+    @Nullable
+    String newVersion;
+
+    @Nullable
+    VersionComparator versionComparator;
+
+    public static DependencyMapping parse(String mapping) {
+        String[] parts = mapping.trim().split(":");
+        if (parts.length < 4 || parts.length > 5 || Arrays.stream(parts).anyMatch(String::isEmpty)) {
+            throw new IllegalArgumentException("Expected a mapping of the form " +
+                                               "`oldGroupId:oldArtifactId:newGroupId:newArtifactId[:newVersion]`, but got `" + mapping + "`");
+        }
+        String newVersion = parts.length == 5 ? parts[4] : null;
+        VersionComparator versionComparator = null;
+        if (newVersion != null) {
+            Validated<VersionComparator> validated = Semver.validate(newVersion, null);
+            if (validated.isInvalid()) {
+                throw new IllegalArgumentException("Invalid version selector `" + newVersion + "` in mapping `" + mapping + "`");
+            }
+            versionComparator = validated.getValue();
+        }
+        return new DependencyMapping(parts[0], parts[1], parts[2], parts[3], newVersion, versionComparator);
+    }
+
+    /**
+     * @return the mappings keyed by their old coordinates, in table order
+     */
+    public static Map<GroupArtifact, DependencyMapping> parseAll(List<String> mappings) {
+        Map<GroupArtifact, DependencyMapping> byOldCoordinates = new LinkedHashMap<>();
+        for (String mapping : mappings) {
+            DependencyMapping parsed = parse(mapping);
+            GroupArtifact old = new GroupArtifact(parsed.getOldGroupId(), parsed.getOldArtifactId());
+            if (byOldCoordinates.putIfAbsent(old, parsed) != null) {
+                throw new IllegalArgumentException("Dependency " + old + " is mapped more than once");
+            }
+        }
+        return byOldCoordinates;
+    }
+
+    /**
+     * @return {@code true} when the new version is a selector, like {@code latest.release} or {@code 2.13.x}, which
+     * has to be resolved against the versions available for the new coordinates
+     */
+    public boolean requiresAvailableVersions() {
+        return versionComparator != null && !(versionComparator instanceof ExactVersion);
+    }
+
+    /**
+     * @return the highest available version selected by the new version, or {@code null} when none is
+     */
+    public @Nullable String selectVersion(@Nullable String currentVersion, Collection<String> availableVersions) {
+        if (!requiresAvailableVersions()) {
+            return newVersion;
+        }
+        String current = currentVersion == null ? newVersion : currentVersion;
+        String selected = null;
+        for (String version : availableVersions) {
+            //noinspection DataFlowIssue
+            if (versionComparator.isValid(current, version) &&
+                (selected == null || versionComparator.compare(current, version, selected) > 0)) {
+                selected = version;
+            }
+        }
+        return selected;
+    }
+}
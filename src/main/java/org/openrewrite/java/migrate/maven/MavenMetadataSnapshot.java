@@ -0,0 +1,194 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.maven;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.maven.MavenDownloadingException;
+import org.openrewrite.maven.MavenExecutionContextView;
+import org.openrewrite.maven.cache.MavenPomCache;
+import org.openrewrite.maven.tree.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.singletonList;
+
+/**
+ * A {@link MavenPomCache} that shares the available versions of every artifact in every repository across all recipes
+ * run with one {@link ExecutionContext}, so that version selectors like {@code 2.3.x} are resolved against the same
+ * metadata in every module.
+ * <p>
+ * The metadata can be seeded from a snapshot file with one line per repository and artifact, in the form
+ * {@code repository<TAB>groupId:artifactId<TAB>version,version,...}. When the snapshot is used offline, artifacts
+ * missing from it are treated as having no versions in that repository, poms that are not cached already are treated
+ * as missing and repositories are never probed, so nothing is ever downloaded. Otherwise,
+ * metadata downloaded during the run is appended to the snapshot file, so a run with network access can record the
+ * snapshot for later offline runs.
+ */
+public class MavenMetadataSnapshot implements MavenPomCache {
+    private final MavenPomCache delegate;
+    private final Map<String, Optional<MavenMetadata>> metadata = new ConcurrentHashMap<>();
+    private final @Nullable Path snapshot;
+    private final boolean offline;
+
+    MavenMetadataSnapshot(MavenPomCache delegate, @Nullable Path snapshot, boolean offline) {
+        this.delegate = delegate;
+        this.snapshot = snapshot;
+        this.offline = offline;
+    }
+
+    /**
+     * Installs a snapshot cache in front of the pom cache of the given context, unless one is already installed.
+     *
+     * @param snapshot the snapshot file to load and record to, if any
+     * @param offline  whether artifacts missing from the snapshot should be treated as having no versions
+     * @return the snapshot cache used by the context
+     */
+    public static MavenMetadataSnapshot install(ExecutionContext ctx, @Nullable Path snapshot, boolean offline) {
+        MavenExecutionContextView mavenCtx = MavenExecutionContextView.view(ctx);
+        synchronized (ctx) {
+            MavenPomCache pomCache = mavenCtx.getPomCache();
+            if (pomCache instanceof MavenMetadataSnapshot) {
+                return (MavenMetadataSnapshot) pomCache;
+            }
+            MavenMetadataSnapshot metadataSnapshot = new MavenMetadataSnapshot(pomCache, snapshot, offline);
+            if (snapshot != null && Files.exists(snapshot)) {
+                metadataSnapshot.load(snapshot);
+            }
+            mavenCtx.setPomCache(metadataSnapshot);
+            return metadataSnapshot;
+        }
+    }
+
+    void load(Path snapshot) {
+        try {
+            for (String line : Files.readAllLines(snapshot, UTF_8)) {
+                String[] columns = line.split("\t");
+                if (line.startsWith("#") || columns.length != 3) {
+                    continue;
+                }
+                String[] versions = columns[2].trim().split(",");
+                metadata.put(key(URI.create(columns[0]), columns[1]), Optional.of(metadata(Arrays.asList(versions))));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public @Nullable Optional<MavenMetadata> getMavenMetadata(URI repo, GroupArtifactVersion gav) {
+        String key = key(repo, gav);
+        Optional<MavenMetadata> cached = metadata.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        if (offline) {
+            return Optional.empty();
+        }
+        cached = delegate.getMavenMetadata(repo, gav);
+        if (cached != null && cached.isPresent()) {
+            metadata.putIfAbsent(key, cached);
+        }
+        return cached;
+    }
+
+    @Override
+    public void putMavenMetadata(URI repo, GroupArtifactVersion gav, @Nullable MavenMetadata mavenMetadata) {
+        delegate.putMavenMetadata(repo, gav, mavenMetadata);
+        String key = key(repo, gav);
+        if (mavenMetadata != null && metadata.putIfAbsent(key, Optional.of(mavenMetadata)) == null) {
+            record(key, mavenMetadata);
+        }
+    }
+
+    @Override
+    public @Nullable Optional<MavenRepository> getNormalizedRepository(MavenRepository repository) {
+        if (offline) {
+            return Optional.of(repository);
+        }
+        return delegate.getNormalizedRepository(repository);
+    }
+
+    @Override
+    public void putNormalizedRepository(MavenRepository repository, MavenRepository normalized) {
+        delegate.putNormalizedRepository(repository, normalized);
+    }
+
+    @Override
+    public @Nullable ResolvedPom getResolvedDependencyPom(ResolvedGroupArtifactVersion dependency) {
+        return delegate.getResolvedDependencyPom(dependency);
+    }
+
+    @Override
+    public void putResolvedDependencyPom(ResolvedGroupArtifactVersion dependency, ResolvedPom resolved) {
+        delegate.putResolvedDependencyPom(dependency, resolved);
+    }
+
+    @Override
+    public @Nullable Optional<Pom> getPom(ResolvedGroupArtifactVersion gav) throws MavenDownloadingException {
+        Optional<Pom> pom = delegate.getPom(gav);
+        return pom == null && offline ? Optional.empty() : pom;
+    }
+
+    @Override
+    public void putPom(ResolvedGroupArtifactVersion gav, @Nullable Pom pom) {
+        delegate.putPom(gav, pom);
+    }
+
+    private synchronized void record(String key, MavenMetadata mavenMetadata) {
+        if (snapshot == null || offline || mavenMetadata.getVersioning().getVersions().isEmpty()) {
+            return;
+        }
+        try {
+            Files.write(snapshot,
+                    singletonList(key + '\t' + String.join(",", mavenMetadata.getVersioning().getVersions())),
+                    UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String key(URI repo, GroupArtifactVersion gav) {
+        return key(repo, gav.getVersion() == null ?
+                gav.getGroupId() + ':' + gav.getArtifactId() :
+                gav.getGroupId() + ':' + gav.getArtifactId() + ':' + gav.getVersion());
+    }
+
+    /**
+     * Normalized repositories may or may not end with a slash, depending on whether they were normalized online.
+     */
+    private static String key(URI repo, String artifact) {
+        String uri = repo.toString();
+        return (uri.endsWith("/") ? uri.substring(0, uri.length() - 1) : uri) + '\t' + artifact;
+    }
+
+    private static MavenMetadata metadata(List<String> versions) {
+        StringBuilder xml = new StringBuilder("<metadata><versioning><versions>");
+        for (String version : versions) {
+            xml.append("<version>").append(version.trim()).append("</version>");
+        }
+        xml.append("</versions></versioning></metadata>");
+        return MavenMetadata.parse(xml.toString().getBytes(UTF_8));
+    }
+}
@@ -50,6 +50,8 @@ public class UpdateMavenProjectPropertyJavaVersion extends Recipe {
                     .map(property -> "/project/properties/" + property)
                     .map(XPathMatcher::new).collect(Collectors.toList());
 
+    private static final String COMPILER_PLUGIN_CONFIGURED_EXPLICITLY = "COMPILER_PLUGIN_CONFIGURED_EXPLICITLY";
+
     private static final XPathMatcher PLUGINS_MATCHER = new XPathMatcher("/project/build//plugins");
 
     @Option(displayName = "Java version",
@@ -80,8 +82,6 @@ public class UpdateMavenProjectPropertyJavaVersion extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return new MavenIsoVisitor<ExecutionContext>() {
-            boolean compilerPluginConfiguredExplicitly;
-
             @Override
             public Xml.Document visitDocument(Xml.Document document, ExecutionContext ctx) {
                 // Update properties already defined in the current pom
@@ -118,7 +118,7 @@ public class UpdateMavenProjectPropertyJavaVersion extends Recipe {
                 // When none of the relevant properties are explicitly configured Maven defaults to Java 8
                 // The release option was added in 9
                 // If no properties have yet been updated then set release explicitly
-                if (!foundProperty && version >= 9 && !compilerPluginConfiguredExplicitly) {
+                if (!foundProperty && version >= 9 && !getCursor().getMessage(COMPILER_PLUGIN_CONFIGURED_EXPLICITLY, false)) {
                     d = (Xml.Document) new AddProperty("maven.compiler.release", String.valueOf(version), null, false)
                             .getVisitor()
                             .visitNonNull(d, ctx);
@@ -136,7 +136,7 @@ public class UpdateMavenProjectPropertyJavaVersion extends Recipe {
                         if (compilerPluginConfig.getChildValue("source").isPresent() ||
                             compilerPluginConfig.getChildValue("target").isPresent() ||
                             compilerPluginConfig.getChildValue("release").isPresent()) {
-                            compilerPluginConfiguredExplicitly = true;
+                            getCursor().putMessageOnFirstEnclosing(Xml.Document.class, COMPILER_PLUGIN_CONFIGURED_EXPLICITLY, true);
                         }
                     });
                 }
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.maven;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+
+import java.nio.file.Paths;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class UseMavenMetadataSnapshot extends ScanningRecipe<MavenMetadataSnapshot> {
+
+    @Option(displayName = "Snapshot",
+            description = "The file holding the available versions of each artifact per repository. Versions downloaded during the " +
+                          "run are appended to it, unless running offline.",
+            example = "build/maven-metadata-snapshot.tsv")
+    String snapshot;
+
+    @Option(displayName = "Offline",
+            description = "Resolve version selectors like `2.3.x` only against the snapshot, without downloading " +
+                          "metadata or poms from any repository.",
+            required = false)
+    @Nullable
+    Boolean offline;
+
+    @Override
+    public String getDisplayName() {
+        return "Resolve dependency versions from a metadata snapshot";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Shares the available versions of each Maven artifact between all recipes that follow this one, " +
+               "so version selectors such as `2.3.x` are resolved once per run rather than once per module. " +
+               "Place it first in a composite recipe to make dependency upgrades repeatable in air-gapped builds.";
+    }
+
+    @Override
+    public MavenMetadataSnapshot getInitialValue(ExecutionContext ctx) {
+        return MavenMetadataSnapshot.install(ctx, Paths.get(snapshot), Boolean.TRUE.equals(offline));
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(MavenMetadataSnapshot acc) {
+        return TreeVisitor.noop();
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.net;
+
+import org.openrewrite.java.migrate.IndexedRecipeCollection;
+
+public class URLConstructorsToURIIndexed extends IndexedRecipeCollection {
+
+    @Override
+    public String getDisplayName() {
+        return "Convert `URL` constructors to `URI`, run by constructor";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Runs the `URLConstructorsToURI` recipes, but only those for a `URL` constructor that the source file uses.";
+    }
+
+    @Override
+    protected void index(Rules rules) {
+        rules.add(new URLConstructorsToURIRecipes.URLSingleArgumentConstructorRecipe(),
+                        "java.net.URL <constructor>(java.lang.String)")
+                .add(new URLConstructorsToURIRecipes.URLThreeArgumentConstructorRecipe(),
+                        "java.net.URL <constructor>(java.lang.String, java.lang.String, java.lang.String)")
+                .add(new URLConstructorsToURIRecipes.URLFourArgumentConstructorRecipe(),
+                        "java.net.URL <constructor>(java.lang.String, java.lang.String, int, java.lang.String)");
+    }
+}
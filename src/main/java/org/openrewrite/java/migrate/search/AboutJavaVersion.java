@@ -29,14 +29,14 @@ import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.JavaSourceFile;
 import org.openrewrite.marker.SearchResult;
 
-import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class AboutJavaVersion extends Recipe {
     transient JavaVersionPerSourceSet javaVersionPerSourceSet = new JavaVersionPerSourceSet(this);
-    transient Set<ProjectSourceSet> seenSourceSets = new HashSet<>();
+    transient Set<ProjectSourceSet> seenSourceSets = ConcurrentHashMap.newKeySet();
 
     @Option(required = false,
             description = "Only mark the Java version when this type is in use.",
@@ -57,11 +57,9 @@ public class AboutJavaVersion extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-
-
         TreeVisitor<?, ExecutionContext> visitor = new TreeVisitor<Tree, ExecutionContext>() {
             @Override
-            public Tree visit(@Nullable Tree cu, ExecutionContext ctx) {
+            public @Nullable Tree visit(@Nullable Tree cu, ExecutionContext ctx) {
                 if (!(cu instanceof JavaSourceFile)) {
                     return cu;
                 }
@@ -0,0 +1,31 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.search;
+
+import static org.openrewrite.internal.StringUtils.uncapitalize;
+
+final class DtoGetters {
+
+    private DtoGetters() {
+    }
+
+    /**
+     * @return the name of the data element read by a getter, without compiling a regular expression for each use
+     */
+    static String dataElementName(String getterName) {
+        return uncapitalize(getterName.startsWith("get") ? getterName.substring(3) : getterName);
+    }
+}
@@ -17,25 +17,45 @@ package org.openrewrite.java.migrate.search;
 
 import lombok.EqualsAndHashCode;
 import lombok.Value;
+import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.migrate.table.DtoDataUseCounts;
 import org.openrewrite.java.migrate.table.DtoDataUses;
+import org.openrewrite.java.search.UsesMethod;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.marker.SearchResult;
 
-import static org.openrewrite.internal.StringUtils.uncapitalize;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
 
 @Value
 @EqualsAndHashCode(callSuper = false)
-public class FindDataUsedOnDto extends Recipe {
+public class FindDataUsedOnDto extends ScanningRecipe<Map<DtoDataUses.Row, LongAdder>> {
+    private static final String SOURCE_PATH = "SOURCE_PATH";
+    private static final String METHOD_NAME = "METHOD_NAME";
+
     transient DtoDataUses dtoDataUses = new DtoDataUses(this);
+    transient DtoDataUseCounts dtoDataUseCounts = new DtoDataUseCounts(this);
 
     @Option(displayName = "DTO type",
             description = "The fully qualified name of the DTO.",
             example = "com.example.dto.*")
     String dtoType;
 
+    @Option(displayName = "Aggregate",
+            description = "Count the uses of each data element per source file and method, reporting one row per " +
+                          "combination at the end of the scan instead of one row per use. The uses are counted in a " +
+                          "single pass over each source file and are not marked in it.",
+            required = false)
+    @Nullable
+    Boolean aggregate;
+
     @Override
     public String getDisplayName() {
         return "Find data used on DTOs";
@@ -48,22 +68,82 @@ public class FindDataUsedOnDto extends Recipe {
     }
 
     @Override
-    public TreeVisitor<?, ExecutionContext> getVisitor() {
-        MethodMatcher dtoFields = new MethodMatcher(dtoType + " get*()");
-        return new JavaIsoVisitor<ExecutionContext>() {
-            @Override
-            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
-                J.MethodDeclaration methodDeclaration = getCursor().firstEnclosing(J.MethodDeclaration.class);
-                if (methodDeclaration != null && dtoFields.matches(method)) {
-                    dtoDataUses.insertRow(ctx, new DtoDataUses.Row(
-                            getCursor().firstEnclosingOrThrow(SourceFile.class).getSourcePath().toString(),
-                            methodDeclaration.getSimpleName(),
-                            uncapitalize(method.getSimpleName().replaceAll("^get", ""))
-                    ));
-                    return SearchResult.found(method);
-                }
+    public Map<DtoDataUses.Row, LongAdder> getInitialValue(ExecutionContext ctx) {
+        return new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Map<DtoDataUses.Row, LongAdder> acc) {
+        if (!Boolean.TRUE.equals(aggregate)) {
+            return TreeVisitor.noop();
+        }
+        return Preconditions.check(new UsesMethod<>(dtoGetters()),
+                new DtoDataUsesVisitor((use, ctx) -> acc.computeIfAbsent(use, u -> new LongAdder()).increment()));
+    }
+
+    @Override
+    public Collection<? extends SourceFile> generate(Map<DtoDataUses.Row, LongAdder> acc, ExecutionContext ctx) {
+        for (Map.Entry<DtoDataUses.Row, LongAdder> use : acc.entrySet()) {
+            dtoDataUseCounts.insertRow(ctx, new DtoDataUseCounts.Row(use.getKey().getSourcePath(),
+                    use.getKey().getMethodName(), use.getKey().getField(), use.getValue().sum()));
+        }
+        return Collections.emptyList();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Map<DtoDataUses.Row, LongAdder> acc) {
+        if (Boolean.TRUE.equals(aggregate)) {
+            // the scanner already counted every use
+            return TreeVisitor.noop();
+        }
+        return Preconditions.check(new UsesMethod<>(dtoGetters()),
+                new DtoDataUsesVisitor((use, ctx) -> dtoDataUses.insertRow(ctx, use)));
+    }
+
+    private String dtoGetters() {
+        return dtoType + " get*()";
+    }
+
+    private class DtoDataUsesVisitor extends JavaIsoVisitor<ExecutionContext> {
+        private final MethodMatcher dtoFields = new MethodMatcher(dtoGetters());
+        private final BiConsumer<DtoDataUses.Row, ExecutionContext> onUse;
+
+        DtoDataUsesVisitor(BiConsumer<DtoDataUses.Row, ExecutionContext> onUse) {
+            this.onUse = onUse;
+        }
+
+        @Override
+        public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
+            getCursor().putMessage(SOURCE_PATH, cu.getSourcePath().toString());
+            return super.visitCompilationUnit(cu, ctx);
+        }
+
+        @Override
+        public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+            getCursor().putMessage(METHOD_NAME, method.getSimpleName());
+            return super.visitMethodDeclaration(method, ctx);
+        }
+
+        @Override
+        public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+            if (!dtoFields.matches(method)) {
                 return super.visitMethodInvocation(method, ctx);
             }
-        };
+            String methodName = getCursor().getNearestMessage(METHOD_NAME);
+            if (methodName == null) {
+                return super.visitMethodInvocation(method, ctx);
+            }
+            String sourcePath = getCursor().getNearestMessage(SOURCE_PATH);
+            if (sourcePath == null) {
+                // a source file other than a Java compilation unit
+                sourcePath = getCursor().firstEnclosingOrThrow(SourceFile.class).getSourcePath().toString();
+            }
+            onUse.accept(new DtoDataUses.Row(
+                    sourcePath,
+                    methodName,
+                    DtoGetters.dataElementName(method.getSimpleName())
+            ), ctx);
+            return SearchResult.found(method);
+        }
     }
 }
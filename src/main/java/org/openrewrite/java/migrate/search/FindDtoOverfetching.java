@@ -20,16 +20,16 @@ import lombok.Value;
 import org.openrewrite.*;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesMethod;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.Statement;
 import org.openrewrite.marker.SearchResult;
 
-import java.util.Iterator;
+import java.util.HashSet;
 import java.util.Set;
 import java.util.TreeSet;
 
 import static java.util.Collections.emptySet;
-import static org.openrewrite.internal.StringUtils.uncapitalize;
 
 @Value
 @EqualsAndHashCode(callSuper = false)
@@ -52,9 +52,20 @@ public class FindDtoOverfetching extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         MethodMatcher dtoFields = new MethodMatcher(dtoType + " get*()");
-        return new JavaIsoVisitor<ExecutionContext>() {
+        return Preconditions.check(new UsesMethod<>(dtoType + " get*()"), new JavaIsoVisitor<ExecutionContext>() {
             @Override
             public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                // The parameter names are collected once per method, rather than once per DTO data element used
+                Set<String> parameterNames = new HashSet<>();
+                for (Statement parameter : method.getParameters()) {
+                    if (parameter instanceof J.VariableDeclarations) {
+                        for (J.VariableDeclarations.NamedVariable variable : ((J.VariableDeclarations) parameter).getVariables()) {
+                            parameterNames.add(variable.getSimpleName());
+                        }
+                    }
+                }
+                getCursor().putMessage("parameterNames", parameterNames);
+
                 J.MethodDeclaration m = super.visitMethodDeclaration(method, ctx);
                 Set<String> allUses = getCursor().getMessage("dtoDataUses", emptySet());
                 if (allUses.size() == 1) {
@@ -67,29 +78,15 @@ public class FindDtoOverfetching extends Recipe {
             public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
                 J.MethodInvocation m = super.visitMethodInvocation(method, ctx);
                 if (method.getSelect() instanceof J.Identifier && dtoFields.matches(method)) {
-                    Iterator<Cursor> methodDeclarations = getCursor()
-                            .getPathAsCursors(c -> c.getValue() instanceof J.MethodDeclaration);
-                    if (methodDeclarations.hasNext()) {
-                        Cursor methodCursor = methodDeclarations.next();
-                        J.MethodDeclaration methodDeclaration = methodCursor.getValue();
-
-                        outer:
-                        for (Statement parameter : methodDeclaration.getParameters()) {
-                            if (parameter instanceof J.VariableDeclarations) {
-                                J.VariableDeclarations variableDeclarations = (J.VariableDeclarations) parameter;
-                                for (J.VariableDeclarations.NamedVariable variable : variableDeclarations.getVariables()) {
-                                    if (variable.getName().getSimpleName().equals(((J.Identifier) method.getSelect()).getSimpleName())) {
-                                        methodCursor.computeMessageIfAbsent("dtoDataUses", k -> new TreeSet<>())
-                                                .add(uncapitalize(method.getSimpleName().replaceAll("^get", "")));
-                                        break outer;
-                                    }
-                                }
-                            }
-                        }
+                    Set<String> parameterNames = getCursor().getNearestMessage("parameterNames");
+                    if (parameterNames != null && parameterNames.contains(((J.Identifier) method.getSelect()).getSimpleName())) {
+                        getCursor().dropParentUntil(J.MethodDeclaration.class::isInstance)
+                                .computeMessageIfAbsent("dtoDataUses", k -> new TreeSet<>())
+                                .add(DtoGetters.dataElementName(method.getSimpleName()));
                     }
                 }
                 return m;
             }
-        };
+        });
     }
 }
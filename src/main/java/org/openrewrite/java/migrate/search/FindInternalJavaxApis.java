@@ -17,9 +17,12 @@ package org.openrewrite.java.migrate.search;
 
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
 import org.openrewrite.internal.StringUtils;
+import org.openrewrite.java.migrate.table.DataTableSpill;
+import org.openrewrite.java.migrate.table.MethodCallCounts;
 import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.table.MethodCalls;
 import org.openrewrite.java.trait.MethodAccess;
@@ -27,14 +30,20 @@ import org.openrewrite.java.tree.JavaType;
 import org.openrewrite.java.tree.MethodCall;
 import org.openrewrite.marker.SearchResult;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @EqualsAndHashCode(callSuper = false)
-public class FindInternalJavaxApis extends Recipe {
+public class FindInternalJavaxApis extends ScanningRecipe<FindInternalJavaxApis.Accumulator> {
 
     private final transient MethodCalls methodCalls = new MethodCalls(this);
+    private final transient MethodCallCounts methodCallCounts = new MethodCallCounts(this);
 
     @Option(
             displayName = "Method pattern",
@@ -45,6 +54,25 @@ public class FindInternalJavaxApis extends Recipe {
     @Nullable
     private final String methodPattern;
 
+    @Option(
+            displayName = "Aggregate",
+            description = "Count the calls per declaring type and method, reporting one row per method at the end of " +
+                          "the scan instead of one row with the printed source of each call. The calls are counted in a " +
+                          "single pass over each source file and are not marked in it.",
+            required = false
+    )
+    @Nullable
+    private final Boolean aggregate;
+
+    @Option(
+            displayName = "Print calls",
+            description = "Print the source of each call into the method calls table. Defaults to `true`, set it to " +
+                          "`false` to only report where calls are and what they call.",
+            required = false
+    )
+    @Nullable
+    private final Boolean printCalls;
+
     @Override
     public String getDisplayName() {
         return "Find uses of internal javax APIs";
@@ -56,40 +84,135 @@ public class FindInternalJavaxApis extends Recipe {
     }
 
     @Override
-    public TreeVisitor<?, ExecutionContext> getVisitor() {
-        Pattern javaxType = Pattern.compile(StringUtils.aspectjNameToPattern("javax..*"));
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        if (!Boolean.TRUE.equals(aggregate)) {
+            return TreeVisitor.noop();
+        }
+        return javaxApiCalls(acc, (ma, method, ctx) ->
+                acc.calls.computeIfAbsent(method.getCalledMethod(), m -> new LongAdder()).increment());
+    }
+
+    @Override
+    public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionContext ctx) {
+        for (Map.Entry<CalledMethod, LongAdder> calls : acc.calls.entrySet()) {
+            methodCallCounts.insertRow(ctx, new MethodCallCounts.Row(calls.getKey().getDeclaringType(),
+                    calls.getKey().getMethodName(), calls.getValue().sum()));
+        }
+        return Collections.emptyList();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        if (Boolean.TRUE.equals(aggregate)) {
+            // the scanner already counted every call
+            return TreeVisitor.noop();
+        }
+        return javaxApiCalls(acc, (ma, method, ctx) -> insertRow(ma, ctx, method));
+    }
+
+    private TreeVisitor<?, ExecutionContext> javaxApiCalls(Accumulator acc, JavaxApiCall onCall) {
         return Preconditions.check(new UsesType<>("javax..*", null),
                 (StringUtils.isBlank(methodPattern) ? new MethodAccess.Matcher() : new MethodAccess.Matcher(methodPattern))
                         .asVisitor((ma, ctx) -> {
                             MethodCall call = ma.getTree();
                             JavaType.Method methodType = call.getMethodType();
-                            //noinspection ConstantValue
-                            if (methodType == null || methodType.getReturnType() == null || methodType.getReturnType() instanceof JavaType.Unknown) {
+                            if (methodType == null) {
                                 return call;
                             }
-                            if (methodType.getReturnType().isAssignableFrom(javaxType)) {
-                                insertRow(ma, ctx, methodType);
-                                return SearchResult.found(call);
-                            }
-                            for (JavaType parameterType : methodType.getParameterTypes()) {
-                                if (parameterType.isAssignableFrom(javaxType)) {
-                                    insertRow(ma, ctx, methodType);
-                                    return SearchResult.found(call);
-                                }
+                            ClassifiedMethod method = acc.classify(methodType);
+                            if (method == null) {
+                                return call;
                             }
-                            return call;
+                            onCall.accept(ma, method, ctx);
+                            return SearchResult.found(call);
                         })
         );
     }
 
-    private void insertRow(MethodAccess ma, ExecutionContext ctx, JavaType.Method methodType) {
-        methodCalls.insertRow(ctx, new MethodCalls.Row(
+    private void insertRow(MethodAccess ma, ExecutionContext ctx, ClassifiedMethod method) {
+        MethodCalls.Row row = new MethodCalls.Row(
                 ma.getCursor().firstEnclosingOrThrow(SourceFile.class).getSourcePath().toString(),
-                ma.getTree().printTrimmed(ma.getCursor()),
-                methodType.getDeclaringType().toString(),
-                methodType.getName(),
-                methodType.getParameterTypes().stream().map(String::valueOf)
-                        .collect(Collectors.joining(", "))
-        ));
+                Boolean.FALSE.equals(printCalls) ? "" : ma.getTree().printTrimmed(ma.getCursor()),
+                method.getDeclaringType(),
+                method.getCalledMethod().getMethodName(),
+                method.getArgumentTypes()
+        );
+        if (!DataTableSpill.spill(ctx, methodCalls, row)) {
+            methodCalls.insertRow(ctx, row);
+        }
+    }
+
+    private interface JavaxApiCall {
+        void accept(MethodAccess ma, ClassifiedMethod method, ExecutionContext ctx);
+    }
+
+    /**
+     * The counts of calls per method, and whether method and parameter types refer to javax APIs, for the whole
+     * run. Most javax call sites of a code base resolve to the same few hundred method types, so each of them is only
+     * classified, and its columns only formatted, once.
+     */
+    public static class Accumulator {
+        private static final Pattern JAVAX_TYPE = Pattern.compile(StringUtils.aspectjNameToPattern("javax..*"));
+        private static final ClassifiedMethod NOT_JAVAX = new ClassifiedMethod(new CalledMethod("", ""), "", "");
+
+        final Map<CalledMethod, LongAdder> calls = new ConcurrentHashMap<>();
+        private final Map<JavaType.Method, ClassifiedMethod> methods = new ConcurrentHashMap<>();
+        private final Map<JavaType, Boolean> javaxTypes = new ConcurrentHashMap<>();
+
+        /**
+         * @return the method with its table columns if it returns or takes a javax type, or {@code null} otherwise
+         */
+        @Nullable ClassifiedMethod classify(JavaType.Method methodType) {
+            ClassifiedMethod method = methods.computeIfAbsent(methodType, m -> usesJavaxApi(m) ?
+                    new ClassifiedMethod(
+                            new CalledMethod(m.getDeclaringType().getFullyQualifiedName(), m.getName()),
+                            m.getDeclaringType().toString(),
+                            m.getParameterTypes().stream().map(String::valueOf).collect(Collectors.joining(", "))) :
+                    NOT_JAVAX);
+            return method == NOT_JAVAX ? null : method;
+        }
+
+        private boolean usesJavaxApi(JavaType.Method methodType) {
+            //noinspection ConstantValue
+            if (methodType.getReturnType() == null || methodType.getReturnType() instanceof JavaType.Unknown) {
+                return false;
+            }
+            if (isJavax(methodType.getReturnType())) {
+                return true;
+            }
+            for (JavaType parameterType : methodType.getParameterTypes()) {
+                if (isJavax(parameterType)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean isJavax(JavaType type) {
+            Boolean javax = javaxTypes.get(type);
+            if (javax == null) {
+                javax = type.isAssignableFrom(JAVAX_TYPE);
+                javaxTypes.putIfAbsent(type, javax);
+            }
+            return javax;
+        }
+    }
+
+    @Value
+    static class ClassifiedMethod {
+        CalledMethod calledMethod;
+        String declaringType;
+        String argumentTypes;
+    }
+
+    @Value
+    public static class CalledMethod {
+        String declaringType;
+        String methodName;
     }
 }
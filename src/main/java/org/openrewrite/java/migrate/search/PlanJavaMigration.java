@@ -15,6 +15,7 @@
  */
 package org.openrewrite.java.migrate.search;
 
+import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
 import org.openrewrite.java.marker.JavaVersion;
 import org.openrewrite.java.migrate.table.JavaVersionMigrationPlan;
@@ -50,7 +51,7 @@ public class PlanJavaMigration extends ScanningRecipe<JavaVersionMigrationPlan.R
         return new TreeVisitor<Tree, ExecutionContext>() {
 
             @Override
-            public Tree preVisit(Tree tree, ExecutionContext ctx) {
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
                 if (tree instanceof SourceFile) {
                     File sourceFile = ((SourceFile) tree).getSourcePath().toFile();
                     if (sourceFile.getName().contains("build.gradle")) {
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.search;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.Statement;
+import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.marker.SearchResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A precondition for the editing phase of a {@link org.openrewrite.ScanningRecipe}, marking only the source files that
+ * use or declare at least one of the types collected by the scanner. Like {@link org.openrewrite.java.search.UsesType}
+ * it only looks at the types in use of the source file, the declaring types of the methods it calls and its class
+ * declarations, rather than visiting the tree. A file calling {@code x.getFoo().getBar()} uses the type of
+ * {@code getFoo()} without naming it, so only the declaring type of {@code getBar()} shows it.
+ */
+public class UsesCollectedType<P> extends TreeVisitor<Tree, P> {
+    private final Predicate<JavaType.FullyQualified> collected;
+
+    public UsesCollectedType(Predicate<JavaType.FullyQualified> collected) {
+        this.collected = collected;
+    }
+
+    @Override
+    public @Nullable Tree visit(@Nullable Tree tree, P p) {
+        if (tree instanceof JavaSourceFile) {
+            JavaSourceFile cu = (JavaSourceFile) tree;
+            for (JavaType type : cu.getTypesInUse().getTypesInUse()) {
+                JavaType.FullyQualified fq = TypeUtils.asFullyQualified(type);
+                if (fq != null && collected.test(fq)) {
+                    return SearchResult.found(cu);
+                }
+            }
+            for (JavaType.Method method : cu.getTypesInUse().getUsedMethods()) {
+                if (collected.test(method.getDeclaringType())) {
+                    return SearchResult.found(cu);
+                }
+            }
+            if (declaresCollectedType(cu.getClasses())) {
+                return SearchResult.found(cu);
+            }
+        }
+        return tree;
+    }
+
+    private boolean declaresCollectedType(List<J.ClassDeclaration> classes) {
+        for (J.ClassDeclaration classDecl : classes) {
+            if (classDecl.getType() != null && collected.test(classDecl.getType())) {
+                return true;
+            }
+            List<J.ClassDeclaration> nested = new ArrayList<>();
+            for (Statement statement : classDecl.getBody().getStatements()) {
+                if (statement instanceof J.ClassDeclaration) {
+                    nested.add((J.ClassDeclaration) statement);
+                }
+            }
+            if (!nested.isEmpty() && declaresCollectedType(nested)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
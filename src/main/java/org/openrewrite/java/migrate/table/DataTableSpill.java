@@ -0,0 +1,185 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.table;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.DataTable;
+import org.openrewrite.ExecutionContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams the rows of data tables to gzip compressed CSV files on disk instead of holding them in the
+ * {@link ExecutionContext}, so that memory use stays flat however many rows a run produces.
+ * <p>
+ * Rows are buffered per data table in batches of {@link #BATCH_SIZE}, each batch being appended to the current chunk
+ * of the data table as a gzip member of its own, and a new chunk is started every {@code rowsPerChunk} rows. The chunks
+ * of a data table are written to {@code <directory>/<data table name>/<chunk>.csv.gz}. Rows buffered when the run ends
+ * are written by {@link #close()}, which {@link SpillDataTablesToDisk} calls once the run is complete.
+ */
+public class DataTableSpill implements AutoCloseable {
+    private static final String DATA_TABLE_SPILL = "org.openrewrite.java.migrate.table.DataTableSpill";
+    static final int BATCH_SIZE = 1_000;
+    private static final Map<Class<?>, List<Field>> COLUMNS = new ConcurrentHashMap<>();
+
+    private final Path directory;
+    private final int rowsPerChunk;
+    private final Map<String, Chunks> chunksByDataTable = new ConcurrentHashMap<>();
+
+    private DataTableSpill(Path directory, int rowsPerChunk) {
+        this.directory = directory;
+        this.rowsPerChunk = rowsPerChunk;
+    }
+
+    /**
+     * Spills the rows of the data tables of this package in the given context to disk, unless already done.
+     */
+    public static DataTableSpill install(ExecutionContext ctx, Path directory, int rowsPerChunk) {
+        if (rowsPerChunk < BATCH_SIZE) {
+            throw new IllegalArgumentException("Chunks must hold at least " + BATCH_SIZE + " rows, but got " + rowsPerChunk);
+        }
+        return ctx.computeMessageIfAbsent(DATA_TABLE_SPILL, k -> new DataTableSpill(directory, rowsPerChunk));
+    }
+
+    /**
+     * Writes the rows still buffered to disk and stops spilling in the given context, if it was installed in it.
+     */
+    public static void close(ExecutionContext ctx) {
+        DataTableSpill spill = ctx.pollMessage(DATA_TABLE_SPILL);
+        if (spill != null) {
+            spill.close();
+        }
+    }
+
+    /**
+     * @return {@code true} if the row was written to disk, or {@code false} if spilling is not enabled in this
+     * context and the row should be inserted into the data table as usual
+     */
+    public static <Row> boolean spill(ExecutionContext ctx, DataTable<Row> dataTable, Row row) {
+        DataTableSpill spill = ctx.getMessage(DATA_TABLE_SPILL);
+        if (spill == null) {
+            return false;
+        }
+        if (ctx.getCycle() <= 1) {
+            spill.chunksByDataTable.computeIfAbsent(dataTable.getName(), name -> new Chunks(spill.directory.resolve(name)))
+                    .add(row, spill.rowsPerChunk);
+        }
+        return true;
+    }
+
+    @Override
+    public void close() {
+        for (Chunks chunks : chunksByDataTable.values()) {
+            chunks.flush();
+        }
+    }
+
+    private static class Chunks {
+        private final Path directory;
+        private final List<Object> batch = new ArrayList<>(BATCH_SIZE);
+        private int chunk;
+        private int rowsInChunk;
+
+        Chunks(Path directory) {
+            this.directory = directory;
+        }
+
+        synchronized void add(Object row, int rowsPerChunk) {
+            batch.add(row);
+            if (batch.size() == BATCH_SIZE) {
+                flush();
+                if (rowsInChunk >= rowsPerChunk) {
+                    chunk++;
+                    rowsInChunk = 0;
+                }
+            }
+        }
+
+        synchronized void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            List<Field> columns = columns(batch.get(0).getClass());
+            try {
+                Files.createDirectories(directory);
+                Path file = directory.resolve(String.format("%05d.csv.gz", chunk));
+                boolean header = !Files.exists(file);
+                try (OutputStream out = Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                     Writer writer = new OutputStreamWriter(new GZIPOutputStream(out, 64 * 1024), StandardCharsets.UTF_8)) {
+                    if (header) {
+                        for (int i = 0; i < columns.size(); i++) {
+                            writer.write(i == 0 ? "" : ",");
+                            writer.write(columns.get(i).getName());
+                        }
+                        writer.write('\n');
+                    }
+                    for (Object row : batch) {
+                        for (int i = 0; i < columns.size(); i++) {
+                            writer.write(i == 0 ? "" : ",");
+                            writer.write(escape(columns.get(i).get(row)));
+                        }
+                        writer.write('\n');
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+            rowsInChunk += batch.size();
+            batch.clear();
+        }
+
+        private static List<Field> columns(Class<?> rowType) {
+            return COLUMNS.computeIfAbsent(rowType, type -> {
+                List<Field> columns = new ArrayList<>();
+                for (Field field : type.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        field.setAccessible(true);
+                        columns.add(field);
+                    }
+                }
+                return columns;
+            });
+        }
+
+        private static String escape(@Nullable Object value) {
+            if (value == null) {
+                return "";
+            }
+            String s = value.toString();
+            if (s.indexOf(',') < 0 && s.indexOf('"') < 0 && s.indexOf('\n') < 0 && s.indexOf('\r') < 0) {
+                return s;
+            }
+            return '"' + s.replace("\"", "\"\"") + '"';
+        }
+    }
+}
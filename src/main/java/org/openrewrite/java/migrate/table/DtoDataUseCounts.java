@@ -0,0 +1,48 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.table;
+
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.Recipe;
+
+public class DtoDataUseCounts extends SpillableDataTable<DtoDataUseCounts.Row> {
+
+    public DtoDataUseCounts(Recipe recipe) {
+        super(recipe,
+                "Counts of uses of the data elements of a DTO",
+                "The number of uses of each data element of a DTO by the method declaration using it.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source path",
+                description = "The path of the source file.")
+        String sourcePath;
+
+        @Column(displayName = "Method name",
+                description = "The name of the method declaration using the data element.")
+        String methodName;
+
+        @Column(displayName = "Field",
+                description = "The data element used.")
+        String field;
+
+        @Column(displayName = "Uses",
+                description = "The number of uses of the data element in the method declaration.")
+        long uses;
+    }
+}
@@ -16,10 +16,9 @@
 package org.openrewrite.java.migrate.table;
 
 import lombok.Value;
-import org.openrewrite.DataTable;
 import org.openrewrite.Recipe;
 
-public class DtoDataUses extends DataTable<DtoDataUses.Row> {
+public class DtoDataUses extends SpillableDataTable<DtoDataUses.Row> {
 
     public DtoDataUses(Recipe recipe) {
         super(recipe,
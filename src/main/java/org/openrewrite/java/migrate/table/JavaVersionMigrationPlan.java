@@ -18,10 +18,9 @@ package org.openrewrite.java.migrate.table;
 import lombok.Builder;
 import lombok.Value;
 import org.openrewrite.Column;
-import org.openrewrite.DataTable;
 import org.openrewrite.Recipe;
 
-public class JavaVersionMigrationPlan extends DataTable<JavaVersionMigrationPlan.Row> {
+public class JavaVersionMigrationPlan extends SpillableDataTable<JavaVersionMigrationPlan.Row> {
 
     public JavaVersionMigrationPlan(Recipe recipe) {
         super(
@@ -15,10 +15,9 @@
  */
 package org.openrewrite.java.migrate.table;
 
-import org.openrewrite.DataTable;
 import org.openrewrite.Recipe;
 
-public class JavaVersionPerFile extends DataTable<JavaVersionRow> {
+public class JavaVersionPerFile extends SpillableDataTable<JavaVersionRow> {
 
     public JavaVersionPerFile(Recipe recipe) {
         super(
@@ -15,10 +15,9 @@
  */
 package org.openrewrite.java.migrate.table;
 
-import org.openrewrite.DataTable;
 import org.openrewrite.Recipe;
 
-public class JavaVersionPerSourceSet extends DataTable<JavaVersionRow> {
+public class JavaVersionPerSourceSet extends SpillableDataTable<JavaVersionRow> {
 
     public JavaVersionPerSourceSet(Recipe recipe) {
         super(
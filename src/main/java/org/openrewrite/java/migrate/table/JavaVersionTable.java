@@ -17,10 +17,9 @@ package org.openrewrite.java.migrate.table;
 
 import lombok.Value;
 import org.openrewrite.Column;
-import org.openrewrite.DataTable;
 import org.openrewrite.Recipe;
 
-public class JavaVersionTable extends DataTable<JavaVersionTable.Row> {
+public class JavaVersionTable extends SpillableDataTable<JavaVersionTable.Row> {
 
     public JavaVersionTable(Recipe recipe) {
         super(recipe, "Java version table", "Records versions of Java in use");
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.table;
+
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.Recipe;
+
+public class MethodCallCounts extends SpillableDataTable<MethodCallCounts.Row> {
+
+    public MethodCallCounts(Recipe recipe) {
+        super(recipe,
+                "Counts of method calls",
+                "The number of calls to each method across all source files.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Declaring type",
+                description = "The type declaring the method called.")
+        String declaringType;
+
+        @Column(displayName = "Method name",
+                description = "The name of the method called.")
+        String methodName;
+
+        @Column(displayName = "Calls",
+                description = "The number of calls to the method.")
+        long calls;
+    }
+}
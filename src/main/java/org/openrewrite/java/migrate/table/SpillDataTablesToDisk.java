@@ -0,0 +1,66 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.table;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+
+import java.nio.file.Paths;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class SpillDataTablesToDisk extends ScanningRecipe<DataTableSpill> {
+
+    @Option(displayName = "Directory",
+            description = "The directory to write the compressed chunks of each data table to.",
+            example = "build/data-tables")
+    String directory;
+
+    @Option(displayName = "Rows per chunk",
+            description = "The number of rows after which a new chunk file is started. Defaults to 1,000,000.",
+            required = false)
+    @Nullable
+    Integer rowsPerChunk;
+
+    @Override
+    public String getDisplayName() {
+        return "Spill migration data tables to disk";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Streams the rows of the data tables of the recipes that follow this one, such as the uses of DTO data " +
+               "elements, Java versions and internal `javax` API calls, to gzip compressed CSV chunks on disk instead of " +
+               "holding them in memory. Place it first in a composite recipe for search runs producing millions of rows.";
+    }
+
+    @Override
+    public DataTableSpill getInitialValue(ExecutionContext ctx) {
+        return DataTableSpill.install(ctx, Paths.get(directory), rowsPerChunk == null ? 1_000_000 : rowsPerChunk);
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(DataTableSpill acc) {
+        return TreeVisitor.noop();
+    }
+
+    @Override
+    public void onComplete(ExecutionContext ctx) {
+        DataTableSpill.close(ctx);
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.table;
+
+import org.openrewrite.DataTable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Recipe;
+
+/**
+ * A data table whose rows are written to disk by {@link DataTableSpill} when spilling is enabled in the context.
+ */
+public abstract class SpillableDataTable<Row> extends DataTable<Row> {
+
+    protected SpillableDataTable(Recipe recipe, String displayName, String description) {
+        super(recipe, displayName, description);
+    }
+
+    @Override
+    public void insertRow(ExecutionContext ctx, Row row) {
+        if (!DataTableSpill.spill(ctx, this, row)) {
+            super.insertRow(ctx, row);
+        }
+    }
+}
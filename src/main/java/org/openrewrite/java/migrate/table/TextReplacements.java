@@ -0,0 +1,48 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.table;
+
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.Recipe;
+
+public class TextReplacements extends SpillableDataTable<TextReplacements.Row> {
+
+    public TextReplacements(Recipe recipe) {
+        super(recipe,
+                "Text replacements",
+                "The number of occurrences of each literal replaced in a source file.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source path",
+                description = "The path of the source file.")
+        String sourcePath;
+
+        @Column(displayName = "Find",
+                description = "The literal text that was replaced.")
+        String find;
+
+        @Column(displayName = "Replace",
+                description = "The text it was replaced with.")
+        String replace;
+
+        @Column(displayName = "Hits",
+                description = "The number of occurrences replaced.")
+        int hits;
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.openrewrite.java.Assertions.java;
+
+class ChangeMethodNamesTest implements RewriteTest {
+
+    //language=java
+    private static final String FOO = """
+      package com.example;
+
+      public class Foo {
+          public static int bar() {
+              return 1;
+          }
+      }
+      """;
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new ChangeMethodNames(asList(
+          "java.util.SortedSet first():getFirst",
+          "java.util.SortedSet last():getLast",
+          "java.util.NavigableSet descendingSet():reversed"
+        ), null, null));
+    }
+
+    @DocumentExample
+    @Test
+    void renamesOnlyMatchingInvocations() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.*;
+
+              class A {
+                  void test(NavigableSet<String> set, List<String> list) {
+                      String first = set.first();
+                      String last = set.last();
+                      NavigableSet<String> reversed = set.descendingSet();
+                      list.size();
+                  }
+              }
+              """,
+            """
+              import java.util.*;
+
+              class A {
+                  void test(NavigableSet<String> set, List<String> list) {
+                      String first = set.getFirst();
+                      String last = set.getLast();
+                      NavigableSet<String> reversed = set.reversed();
+                      list.size();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void appliesRenamesInOrder() {
+        rewriteRun(
+          spec -> spec.recipe(new ChangeMethodNames(asList(
+            "java.util.List size():length",
+            "java.util.List length():count"
+          ), null, null)),
+          //language=java
+          java(
+            """
+              import java.util.List;
+
+              class A {
+                  int test(List<String> list) {
+                      return list.size();
+                  }
+              }
+              """,
+            """
+              import java.util.List;
+
+              class A {
+                  int test(List<String> list) {
+                      return list.count();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void renamesStaticallyImportedMethod() {
+        rewriteRun(
+          spec -> spec.recipe(new ChangeMethodNames(singletonList("com.example.Foo bar():baz"), null, null))
+            .parser(JavaParser.fromJavaVersion().dependsOn(FOO)),
+          //language=java
+          java(
+            """
+              import static com.example.Foo.bar;
+
+              class A {
+                  int test() {
+                      return bar();
+                  }
+              }
+              """,
+            """
+              import static com.example.Foo.baz;
+
+              class A {
+                  int test() {
+                      return baz();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void renamesStaticImportOfUncalledMethod() {
+        rewriteRun(
+          spec -> spec.recipe(new ChangeMethodNames(singletonList("com.example.Foo bar():baz"), null, null))
+            .parser(JavaParser.fromJavaVersion().dependsOn(FOO)),
+          //language=java
+          java(
+            """
+              import static com.example.Foo.bar;
+
+              class A {
+              }
+              """,
+            """
+              import static com.example.Foo.baz;
+
+              class A {
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void renamesMethodReference() {
+        rewriteRun(
+          spec -> spec.recipe(new ChangeMethodNames(singletonList("com.example.Foo bar():baz"), null, null))
+            .parser(JavaParser.fromJavaVersion().dependsOn(FOO)),
+          //language=java
+          java(
+            """
+              import com.example.Foo;
+
+              import java.util.function.Supplier;
+
+              class A {
+                  Supplier<Integer> test() {
+                      return Foo::bar;
+                  }
+              }
+              """,
+            """
+              import com.example.Foo;
+
+              import java.util.function.Supplier;
+
+              class A {
+                  Supplier<Integer> test() {
+                      return Foo::baz;
+                  }
+              }
+              """
+          )
+        );
+    }
+}
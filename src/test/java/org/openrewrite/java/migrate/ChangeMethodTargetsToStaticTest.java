@@ -0,0 +1,64 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static java.util.Arrays.asList;
+import static org.openrewrite.java.Assertions.java;
+
+class ChangeMethodTargetsToStaticTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new ChangeMethodTargetsToStatic(asList(
+            "com.google.common.primitives.Ints compare(int, int):java.lang.Integer",
+            "com.google.common.primitives.Longs compare(long, long):java.lang.Long"
+          ), null))
+          .parser(JavaParser.fromJavaVersion().classpath("guava"));
+    }
+
+    @DocumentExample
+    @Test
+    void changesMatchingTargets() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.google.common.primitives.Ints;
+              import com.google.common.primitives.Longs;
+
+              class A {
+                  boolean test(int a, int b, long c, long d) {
+                      return Ints.compare(a, b) < 0 && Longs.compare(c, d) < 0;
+                  }
+              }
+              """,
+            """
+              class A {
+                  boolean test(int a, int b, long c, long d) {
+                      return Integer.compare(a, b) < 0 && Long.compare(c, d) < 0;
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static java.util.Arrays.asList;
+import static org.openrewrite.xml.Assertions.xml;
+
+class ChangeTagAttributesTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new ChangeTagAttributes(asList(
+          "//property|name|javax.persistence|jakarta.persistence",
+          "/persistence|version||3.0",
+          "/persistence|xmlns|http://xmlns.jcp.org|https://jakarta.ee",
+          "/persistence/persistence-unit|name|legacy|modern"
+        ), null));
+    }
+
+    @DocumentExample
+    @Test
+    void changesAllAttributesInOnePass() {
+        rewriteRun(
+          //language=xml
+          xml(
+            """
+              <persistence version="2.2" xmlns="http://xmlns.jcp.org/xml/ns/persistence">
+                <persistence-unit name="legacy">
+                  <properties>
+                    <property name="javax.persistence.jdbc.url" value="jdbc:h2:mem:test"/>
+                  </properties>
+                </persistence-unit>
+              </persistence>
+              """,
+            """
+              <persistence version="3.0" xmlns="https://jakarta.ee/xml/ns/persistence">
+                <persistence-unit name="modern">
+                  <properties>
+                    <property name="jakarta.persistence.jdbc.url" value="jdbc:h2:mem:test"/>
+                  </properties>
+                </persistence-unit>
+              </persistence>
+              """
+          )
+        );
+    }
+
+    @Test
+    void skipsOtherRootElements() {
+        rewriteRun(
+          spec -> spec.recipe(new ChangeTagAttributes(asList(
+            "/persistence|version||3.0",
+            "/persistence/persistence-unit|name|legacy|modern"
+          ), null)),
+          //language=xml
+          xml(
+            """
+              <beans version="2.0">
+                <persistence version="2.2">
+                  <persistence-unit name="legacy"/>
+                </persistence>
+              </beans>
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.openrewrite.java.Assertions.java;
+
+class ChangeTypesAndPackagesTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        List<String> packages = asList(
+          "javax.persistence:jakarta.persistence",
+          "javax.validation:jakarta.validation");
+        List<String> types = singletonList("javax.faces.el.MethodBinding:jakarta.el.MethodExpression");
+        spec.recipe(new ChangeTypesAndPackages(packages, null, types, null))
+          .parser(JavaParser.fromJavaVersion()
+            //language=java
+            .dependsOn(
+              """
+                package javax.persistence;
+                public @interface Entity {}
+                """,
+              """
+                package javax.validation.constraints;
+                public @interface NotNull {}
+                """,
+              """
+                package javax.faces.el;
+                public class MethodBinding {}
+                """
+            ));
+    }
+
+    @DocumentExample
+    @Test
+    void renamesAllMappedPackagesAndTypes() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import javax.faces.el.MethodBinding;
+              import javax.persistence.Entity;
+              import javax.validation.constraints.NotNull;
+
+              @Entity
+              class A {
+                  @NotNull
+                  MethodBinding binding;
+              }
+              """,
+            """
+              import jakarta.el.MethodExpression;
+              import jakarta.persistence.Entity;
+              import jakarta.validation.constraints.NotNull;
+
+              @Entity
+              class A {
+                  @NotNull
+                  MethodExpression binding;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void followsRenamedNamesThroughLaterMappings() {
+        rewriteRun(
+          spec -> spec.recipe(new ChangeTypesAndPackages(
+            asList("javax.persistence:jakarta.persistence", "jakarta.persistence:javax.persistence"), null, null, null)),
+          //language=java
+          java(
+            """
+              import javax.persistence.Entity;
+
+              @Entity
+              class A {
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void leavesUnmappedFilesAlone() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.List;
+
+              class A {
+                  List<String> names;
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.migrate.table.TextReplacements;
+import org.openrewrite.test.RewriteTest;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.openrewrite.test.SourceSpecs.other;
+import static org.openrewrite.test.SourceSpecs.text;
+
+class FindAndReplaceLiteralsTest implements RewriteTest {
+
+    @DocumentExample
+    @Test
+    void replacesAllLiteralsAndCountsHits() {
+        rewriteRun(
+          spec -> spec.recipe(new FindAndReplaceLiterals(
+            asList("http://java.sun.com/jsf/html", "http://java.sun.com/jsf", "javax."),
+            asList("jakarta.faces.html", "jakarta.faces", "jakarta."),
+            null, "**/*.xhtml"))
+            .dataTable(TextReplacements.Row.class, rows -> assertThat(rows)
+              .extracting(TextReplacements.Row::getFind, TextReplacements.Row::getHits)
+              .containsExactly(
+                tuple("http://java.sun.com/jsf/html", 1),
+                tuple("http://java.sun.com/jsf", 1),
+                tuple("javax.", 2))),
+          text(
+            """
+              <html xmlns:h="http://java.sun.com/jsf/html" xmlns:f="http://java.sun.com/jsf/core">
+                <h:outputText value="#{javax.faces.foo} #{JAVAX.faces.bar}"/>
+              </html>
+              """,
+            """
+              <html xmlns:h="jakarta.faces.html" xmlns:f="jakarta.faces/core">
+                <h:outputText value="#{jakarta.faces.foo} #{jakarta.faces.bar}"/>
+              </html>
+              """,
+            spec -> spec.path("page.xhtml")
+          )
+        );
+    }
+
+    @Test
+    void appliesLaterLiteralsToReplacedText() {
+        rewriteRun(
+          spec -> spec.recipe(new FindAndReplaceLiterals(
+            asList("javax.", "jakarta.sql."), asList("jakarta.", "javax.sql."), true, null)),
+          text(
+            "javax.sql.DataSource javax.inject.Inject",
+            "javax.sql.DataSource jakarta.inject.Inject"
+          )
+        );
+    }
+
+    @Test
+    void onlyFoldsAsciiLettersWhenIgnoringCase() {
+        rewriteRun(
+          spec -> spec.recipe(new FindAndReplaceLiterals(
+            singletonList("äpfel"), singletonList("birnen"), null, null)),
+          text(
+            "ÄPFEL äpfel Äpfel äPFEL",
+            "ÄPFEL birnen Äpfel birnen"
+          )
+        );
+    }
+
+    @Test
+    void onlyMatchingFiles() {
+        rewriteRun(
+          spec -> spec.recipe(new FindAndReplaceLiterals(
+            singletonList("javax."), singletonList("jakarta."), null, "**/*.xhtml")),
+          text(
+            "javax.faces",
+            spec -> spec.path("faces.properties")
+          )
+        );
+    }
+
+    @Test
+    void leavesQuarksAlone() {
+        rewriteRun(
+          spec -> spec.recipe(new FindAndReplaceLiterals(
+            singletonList("javax."), singletonList("jakarta."), null, null)),
+          other(
+            "javax.faces",
+            spec -> spec.path("lib/faces.jar")
+          )
+        );
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.Recipe;
+import org.openrewrite.java.migrate.guava.NoGuavaRefasterIndexed;
+import org.openrewrite.java.migrate.guava.NoGuavaRefasterRecipes;
+import org.openrewrite.java.migrate.lang.StringRulesIndexed;
+import org.openrewrite.java.migrate.lang.StringRulesRecipes;
+import org.openrewrite.java.migrate.net.URLConstructorsToURIIndexed;
+import org.openrewrite.java.migrate.net.URLConstructorsToURIRecipes;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+
+class IndexedRecipeCollectionTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new StringRulesIndexed());
+    }
+
+    @DocumentExample
+    @Test
+    @SuppressWarnings("StringOperationCanBeSimplified")
+    void runsRecipesOfUsedMethods() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              class Test {
+                  String s1 = "hello".substring(0, "hello".length());
+                  int i = "hello".indexOf("l", 0);
+                  boolean b = "hello".toLowerCase().equals("HELLO".toLowerCase());
+              }
+              """,
+            """
+              class Test {
+                  String s1 = "hello";
+                  int i = "hello".indexOf("l");
+                  boolean b = "hello".equalsIgnoreCase("HELLO");
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void skipsUnusedMethods() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              class Test {
+                  int i = "hello".indexOf("l", 1);
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void indexesConstructorsByType() {
+        rewriteRun(
+          spec -> spec.recipe(new URLConstructorsToURIIndexed()),
+          //language=java
+          java(
+            """
+              import java.net.URL;
+
+              class Test {
+                  void urlConstructor(String spec) throws Exception {
+                      URL url1 = new URL(spec);
+                      URL url3 = new URL(spec, "localhost", 8080, "file");
+                  }
+              }
+              """,
+            """
+              import java.net.URI;
+              import java.net.URL;
+
+              class Test {
+                  void urlConstructor(String spec) throws Exception {
+                      URL url1 = URI.create(spec).toURL();
+                      URL url3 = new URI(spec, null, "localhost", 8080, "file", null, null).toURL();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void indexesEveryRecipeOfTheGeneratedAggregate() {
+        assertIndexesAggregate(new NoGuavaRefasterIndexed(), new NoGuavaRefasterRecipes());
+        assertIndexesAggregate(new StringRulesIndexed(), new StringRulesRecipes());
+        assertIndexesAggregate(new URLConstructorsToURIIndexed(), new URLConstructorsToURIRecipes());
+    }
+
+    private static void assertIndexesAggregate(IndexedRecipeCollection indexed, Recipe aggregate) {
+        assertThat(indexed.getIndexedRecipes())
+          .extracting(Recipe::getName)
+          .as("recipes of %s", indexed.getName())
+          .containsExactlyElementsOf(aggregate.getRecipeList().stream().map(Recipe::getName).collect(toList()));
+    }
+}
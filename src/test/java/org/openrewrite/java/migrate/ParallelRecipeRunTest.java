@@ -0,0 +1,324 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Named;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.migrate.javax.AddColumnAnnotation;
+import org.openrewrite.java.migrate.javax.AddScopeToInjectedClass;
+import org.openrewrite.java.migrate.javax.AddTransientAnnotationToEntity;
+import org.openrewrite.java.migrate.javax.RemoveEmbeddableId;
+import org.openrewrite.java.migrate.lang.StringRulesIndexed;
+import org.openrewrite.java.migrate.lang.var.UseVarForAll;
+import org.openrewrite.java.migrate.lombok.LombokValueToRecord;
+import org.openrewrite.java.migrate.search.AboutJavaVersion;
+import org.openrewrite.java.migrate.search.FindDataUsedOnDto;
+import org.openrewrite.java.migrate.search.FindInternalJavaxApis;
+import org.openrewrite.java.migrate.search.FindJavaVersion;
+import org.openrewrite.java.migrate.table.DataTableSpill;
+import org.openrewrite.java.migrate.util.ListFirstAndLast;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs recipes with the source files processed concurrently on a fork-join pool, the way a host running a migration
+ * on all of its cores would, and checks that both the source files and the data tables they produce match a serial
+ * run. Each source file gets visitors of its own, but shares the recipe instance, its accumulators and the execution
+ * context with all other source files.
+ */
+class ParallelRecipeRunTest {
+    private static final int COPIES = 128;
+    private static final int PARALLEL_RUNS = 4;
+
+    private static List<SourceFile> sourceFiles;
+
+    @BeforeAll
+    static void parse() {
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        List<String> sources = new ArrayList<>();
+        for (int i = 0; i < COPIES; i++) {
+            //language=java
+            sources.add("""
+              package com.example.p%d;
+
+              import java.util.ArrayList;
+              import java.util.List;
+              import javax.persistence.ElementCollection;
+              import javax.persistence.Entity;
+              import javax.persistence.Id;
+
+              @Entity
+              public class Order%d {
+                  @Id
+                  private int id;
+
+                  @ElementCollection
+                  private List<String> lines;
+
+                  private Address%d address;
+
+                  int total(String s) {
+                      int one = Integer.parseInt(s);
+                      List<String> strings = new ArrayList<>();
+                      strings.add(s.trim());
+                      String first = strings.get(0);
+                      String last = strings.get(strings.size() - 1);
+                      return first.toLowerCase().equals(last.toLowerCase()) ? one : last.substring(0).length();
+                  }
+              }
+              """.formatted(i % 8, i, i));
+            //language=java
+            sources.add("""
+              package com.example.p%d;
+
+              import javax.persistence.Entity;
+              import javax.persistence.Id;
+
+              @Entity
+              public class Address%d {
+                  @Id
+                  private String street;
+
+                  public String getStreet() {
+                      return street;
+                  }
+              }
+              """.formatted(i % 8, i));
+            //language=java
+            sources.add("""
+              package com.example.p%d;
+
+              import javax.inject.Inject;
+              import javax.persistence.EntityManager;
+
+              public class Service%d {
+                  @Inject
+                  EntityManager entityManager;
+
+                  @Inject
+                  Address%d address;
+
+                  String street() {
+                      entityManager.getTransaction().begin();
+                      return address.getStreet().trim();
+                  }
+              }
+              """.formatted(i % 8, i, i));
+            //language=java
+            sources.add("""
+              package com.example.p%d;
+
+              import lombok.Value;
+
+              @Value
+              public class Line%d {
+                  String text;
+              }
+              """.formatted(i % 8, i));
+        }
+        List<Path> classpath = new ArrayList<>(JavaParser.dependenciesFromResources(ctx, "javax.persistence-api-2.2"));
+        classpath.addAll(JavaParser.dependenciesFromClasspath("lombok"));
+        sourceFiles = JavaParser.fromJavaVersion()
+          .classpath(classpath)
+          .dependsOn(
+            //language=java
+            """
+              package javax.enterprise.context;
+              public @interface Dependent {
+              }
+              """,
+            //language=java
+            """
+              package javax.inject;
+              public @interface Inject {
+              }
+              """
+          )
+          .build()
+          .parse(ctx, sources.toArray(new String[0]))
+          .collect(toList());
+    }
+
+    static Stream<Named<Supplier<Recipe>>> recipes() {
+        return Stream.of(
+          Named.of("ChangeMethodInvocationReturnType", () -> new ChangeMethodInvocationReturnType("java.lang.Integer parseInt(String)", "long")),
+          Named.of("UpgradeJavaVersion", () -> new UpgradeJavaVersion(21)),
+          Named.of("FindJavaVersion", FindJavaVersion::new),
+          Named.of("AboutJavaVersion", () -> new AboutJavaVersion(null)),
+          Named.of("AddColumnAnnotation", AddColumnAnnotation::new),
+          Named.of("AddTransientAnnotationToEntity", AddTransientAnnotationToEntity::new),
+          Named.of("RemoveEmbeddableId", RemoveEmbeddableId::new),
+          Named.of("ListFirstAndLast", ListFirstAndLast::new),
+          Named.of("StringRulesIndexed", StringRulesIndexed::new),
+          Named.of("UseVarForAll", UseVarForAll::new),
+          Named.of("AddScopeToInjectedClass", AddScopeToInjectedClass::new),
+          Named.of("LombokValueToRecord", () -> new LombokValueToRecord(false)),
+          Named.of("FindDataUsedOnDto", () -> new FindDataUsedOnDto("com.example..*", null)),
+          Named.of("FindDataUsedOnDto (aggregate)", () -> new FindDataUsedOnDto("com.example..*", true)),
+          Named.of("FindInternalJavaxApis", () -> new FindInternalJavaxApis(null, null, null)),
+          Named.of("FindInternalJavaxApis (aggregate)", () -> new FindInternalJavaxApis(null, true, null)),
+          Named.of("ChangeMethodNames", () -> new ChangeMethodNames(asList(
+            "java.lang.String trim():strip", "java.util.List size():count"), null, null)),
+          Named.of("ChangeTypesAndPackages", () -> new ChangeTypesAndPackages(
+            singletonList("javax.persistence:jakarta.persistence"), null,
+            singletonList("java.util.ArrayList:java.util.LinkedList"), null))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("recipes")
+    void parallelRunMatchesSerialRun(Supplier<Recipe> recipe, @TempDir Path tempDir) throws Exception {
+        Run serial = run(recipe.get(), null, tempDir.resolve("serial"));
+        ForkJoinPool pool = new ForkJoinPool(Math.max(8, Runtime.getRuntime().availableProcessors()));
+        try {
+            for (int i = 0; i < PARALLEL_RUNS; i++) {
+                Run parallel = run(recipe.get(), pool, tempDir.resolve("parallel-" + i));
+                assertThat(parallel.sources).containsExactlyElementsOf(serial.sources);
+                assertThat(parallel.rows).containsExactlyInAnyOrderElementsOf(serial.rows);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static class Run {
+        final List<String> sources = new ArrayList<>();
+        final List<String> rows = new ArrayList<>();
+    }
+
+    /**
+     * Runs a single cycle of the recipe like a recipe run does: all scanners over all source files first, then what
+     * the scanning recipes generate, then the visitors of all recipes in order. Data table rows are spilled to disk, so
+     * they can be compared too.
+     */
+    private static Run run(Recipe recipe, @Nullable ForkJoinPool pool, Path dataTables) throws Exception {
+        ExecutionContext ctx = new InMemoryExecutionContext(t -> {
+            throw new AssertionError(t);
+        }) {
+            @Override
+            public int getCycle() {
+                return 1;
+            }
+        };
+
+        List<Recipe> leaves = new ArrayList<>();
+        flatten(recipe, leaves);
+
+        List<SourceFile> after = new ArrayList<>(sourceFiles);
+        try (DataTableSpill ignored = DataTableSpill.install(ctx, dataTables, 1_000_000)) {
+            Map<Recipe, Object> accumulators = new IdentityHashMap<>();
+            for (Recipe leaf : leaves) {
+                if (leaf instanceof ScanningRecipe) {
+                    accumulators.put(leaf, scan((ScanningRecipe<?>) leaf, pool, ctx));
+                }
+            }
+            for (Recipe leaf : leaves) {
+                if (leaf instanceof ScanningRecipe) {
+                    after.addAll(generate((ScanningRecipe<?>) leaf, accumulators.get(leaf), ctx));
+                }
+            }
+            for (Recipe leaf : leaves) {
+                Object acc = accumulators.get(leaf);
+                after = map(after, pool, sourceFile -> visit(leaf instanceof ScanningRecipe ?
+                        visitor((ScanningRecipe<?>) leaf, acc) : leaf.getVisitor(), sourceFile, ctx));
+            }
+        }
+
+        Run run = new Run();
+        for (SourceFile sourceFile : after) {
+            run.sources.add(sourceFile.printAll());
+        }
+        if (Files.isDirectory(dataTables)) {
+            try (Stream<Path> files = Files.walk(dataTables)) {
+                for (Path chunk : files.filter(Files::isRegularFile).sorted().collect(toList())) {
+                    try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                      new GZIPInputStream(Files.newInputStream(chunk)), StandardCharsets.UTF_8))) {
+                        String dataTable = dataTables.relativize(chunk.getParent()).toString();
+                        reader.lines().forEach(line -> run.rows.add(dataTable + ": " + line));
+                    }
+                }
+            }
+        }
+        return run;
+    }
+
+    private static void flatten(Recipe recipe, List<Recipe> leaves) {
+        leaves.add(recipe);
+        for (Recipe child : recipe.getRecipeList()) {
+            flatten(child, leaves);
+        }
+    }
+
+    private static <T> T scan(ScanningRecipe<T> recipe, @Nullable ForkJoinPool pool, ExecutionContext ctx) throws Exception {
+        T acc = recipe.getInitialValue(ctx);
+        map(sourceFiles, pool, sourceFile -> visit(recipe.getScanner(acc), sourceFile, ctx));
+        return acc;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Collection<? extends SourceFile> generate(ScanningRecipe<T> recipe, @Nullable Object acc,
+                                                                 ExecutionContext ctx) {
+        return recipe.generate((T) acc, emptyList(), ctx);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> TreeVisitor<?, ExecutionContext> visitor(ScanningRecipe<T> recipe, @Nullable Object acc) {
+        return recipe.getVisitor((T) acc);
+    }
+
+    private static SourceFile visit(TreeVisitor<?, ExecutionContext> visitor, SourceFile sourceFile, ExecutionContext ctx) {
+        if (!visitor.isAcceptable(sourceFile, ctx)) {
+            return sourceFile;
+        }
+        Tree after = visitor.visit(sourceFile, ctx, new Cursor(null, Cursor.ROOT_VALUE));
+        return after == null ? sourceFile : (SourceFile) after;
+    }
+
+    private static List<SourceFile> map(List<SourceFile> sourceFiles, @Nullable ForkJoinPool pool,
+                                        UnaryOperator<SourceFile> visit) throws Exception {
+        if (pool == null) {
+            return sourceFiles.stream().map(visit).collect(toList());
+        }
+        return pool.submit(() -> sourceFiles.parallelStream().map(visit).collect(toList())).get();
+    }
+}
@@ -0,0 +1,376 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.cache;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.migrate.javax.AddScopeToInjectedClass;
+import org.openrewrite.java.migrate.lombok.LombokValueToRecord;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+import org.openrewrite.test.TypeValidation;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.java.Assertions.javaVersion;
+import static org.openrewrite.test.RewriteTest.toRecipe;
+
+class MigrationCacheTest implements RewriteTest {
+
+    @TempDir
+    Path cacheDirectory;
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.validateRecipeSerialization(false)
+          .parser(JavaParser.fromJavaVersion()
+            .dependsOn(
+              //language=java
+              """
+                package javax.enterprise.context;
+                public @interface Dependent {
+                }
+                """,
+              //language=java
+              """
+                package javax.inject;
+                public @interface Inject {
+                }
+                """
+            )
+          );
+    }
+
+    @DocumentExample
+    @Test
+    void replaysScannedInjectionPoints() {
+        CountingAddScopeToInjectedClass recipe = new CountingAddScopeToInjectedClass();
+        for (int run = 0; run < 2; run++) {
+            recipe.scanned.clear();
+            recipe.visited.clear();
+            rewriteRun(
+              spec -> spec.recipe(MigrationCache.wrap(recipe, cacheDirectory)),
+              java(
+                """
+                  package com.sample.service;
+
+                  public class Bar {}
+                  """,
+                """
+                  package com.sample.service;
+
+                  import javax.enterprise.context.Dependent;
+
+                  @Dependent
+                  public class Bar {}
+                  """
+              ),
+              java(
+                """
+                  package com.sample;
+
+                  import javax.inject.Inject;
+                  import com.sample.service.Bar;
+
+                  public class Foo {
+                      @Inject
+                      Bar service;
+                  }
+                  """
+              )
+            );
+            if (run == 0) {
+                assertThat(recipe.scanned).contains("com/sample/Foo.java", "com/sample/service/Bar.java");
+                assertThat(recipe.visited).contains("com/sample/Foo.java", "com/sample/service/Bar.java");
+            } else {
+                // Bar is still annotated, from the injection point of Foo replayed out of the cache
+                assertThat(recipe.scanned).containsOnly("com/sample/service/Bar.java");
+                assertThat(recipe.visited).containsOnly("com/sample/service/Bar.java");
+            }
+        }
+    }
+
+    @Test
+    void skipsSourceFilesLeftUnchanged() {
+        AtomicInteger visits = new AtomicInteger();
+        Recipe recipe = toRecipe(() -> new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
+                visits.incrementAndGet();
+                return cu;
+            }
+        });
+
+        //language=java
+        String source = """
+          class A {
+          }
+          """;
+        rewriteRun(spec -> spec.recipe(MigrationCache.wrap(recipe, cacheDirectory)), java(source));
+        int visitsOfFirstRun = visits.get();
+        assertThat(visitsOfFirstRun).isPositive();
+
+        rewriteRun(spec -> spec.recipe(MigrationCache.wrap(recipe, cacheDirectory)), java(source));
+        assertThat(visits.get()).isEqualTo(visitsOfFirstRun);
+    }
+
+    @Test
+    void revisitsSourceFilesUsingChangedTypes() {
+        List<String> visited = new CopyOnWriteArrayList<>();
+        Recipe recipe = toRecipe(() -> new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
+                visited.add(cu.getSourcePath().toString());
+                return cu;
+            }
+        });
+
+        rewriteRun(
+          spec -> spec.recipe(MigrationCache.wrap(recipe, cacheDirectory)),
+          //language=java
+          java("class A { B b; }"),
+          //language=java
+          java("class B { }"),
+          //language=java
+          java("class C { }")
+        );
+        assertThat(visited).contains("A.java", "B.java", "C.java");
+
+        visited.clear();
+        rewriteRun(
+          spec -> spec.recipe(MigrationCache.wrap(recipe, cacheDirectory)),
+          //language=java
+          java("class A { B b; }"),
+          //language=java
+          java("class B { int size; }"),
+          //language=java
+          java("class C { }")
+        );
+        // A is unchanged, but uses the changed type B
+        assertThat(visited).contains("A.java", "B.java").doesNotContain("C.java");
+    }
+
+    @Test
+    void runsRecipeIncrementallyByName() throws IOException {
+        long linesOfFirstRun = 0;
+        for (int run = 0; run < 2; run++) {
+            rewriteRun(
+              spec -> spec.recipe(new IncrementalMigration(
+                "org.openrewrite.java.migrate.javax.AddScopeToInjectedClass", cacheDirectory.toString())),
+              java(
+                """
+                  package com.sample.service;
+
+                  public class Bar {}
+                  """,
+                """
+                  package com.sample.service;
+
+                  import javax.enterprise.context.Dependent;
+
+                  @Dependent
+                  public class Bar {}
+                  """
+              ),
+              java(
+                """
+                  package com.sample;
+
+                  import javax.inject.Inject;
+                  import com.sample.service.Bar;
+
+                  public class Foo {
+                      @Inject
+                      Bar service;
+                  }
+                  """
+              )
+            );
+            if (run == 0) {
+                linesOfFirstRun = contributionLines();
+                assertThat(linesOfFirstRun).isPositive();
+            } else {
+                // the second run replays what the source files contributed, without scanning them again
+                assertThat(contributionLines()).isEqualTo(linesOfFirstRun);
+            }
+        }
+    }
+
+    @Test
+    void replaysAndInvalidatesCollectedRecordTypes() throws IOException {
+        //language=java
+        String userOfA = """
+          package example;
+
+          public class UserOfA {
+              public String getValue(A a) {
+                  return a.getTest();
+              }
+          }
+          """;
+        long linesOfFirstRun = 0;
+        for (int run = 0; run < 2; run++) {
+            rewriteRun(
+              spec -> lombokValueToRecord(spec),
+              //language=java
+              java(
+                """
+                  package example;
+
+                  import lombok.Value;
+
+                  @Value
+                  public class A {
+                     String test;
+                  }
+                  """,
+                """
+                  package example;
+
+                  public record A(
+                     String test) {
+                  }
+                  """
+              ),
+              //language=java
+              java(
+                userOfA,
+                """
+                  package example;
+
+                  public class UserOfA {
+                      public String getValue(A a) {
+                          return a.test();
+                      }
+                  }
+                  """
+              )
+            );
+            if (run == 0) {
+                linesOfFirstRun = contributionLines();
+                assertThat(linesOfFirstRun).isPositive();
+            } else {
+                // the second run is a cache hit, replaying the record type collected from A
+                assertThat(contributionLines()).isEqualTo(linesOfFirstRun);
+            }
+        }
+
+        rewriteRun(
+          spec -> lombokValueToRecord(spec),
+          //language=java
+          java(
+            """
+              package example;
+
+              import lombok.Value;
+
+              @Value
+              public class A {
+                 String test;
+                 String other;
+              }
+              """,
+            """
+              package example;
+
+              public record A(
+                 String test,
+                 String other) {
+              }
+              """
+          ),
+          //language=java
+          java(
+            userOfA,
+            """
+              package example;
+
+              public class UserOfA {
+                  public String getValue(A a) {
+                      return a.test();
+                  }
+              }
+              """
+          )
+        );
+        // A changed, so its record type is collected again rather than replayed
+        assertThat(contributionLines()).isGreaterThan(linesOfFirstRun);
+    }
+
+    private void lombokValueToRecord(RecipeSpec spec) {
+        spec.recipe(MigrationCache.wrap(new LombokValueToRecord(false), cacheDirectory))
+          .allSources(s -> s.markers(javaVersion(17)))
+          .parser(JavaParser.fromJavaVersion().classpath("lombok"))
+          .typeValidationOptions(TypeValidation.none());
+    }
+
+    private long contributionLines() throws IOException {
+        long lines = 0;
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            for (Path file : files.filter(f -> f.toString().endsWith(".contributions")).collect(toList())) {
+                lines += Files.readAllLines(file).size();
+            }
+        }
+        return lines;
+    }
+
+    private static class CountingAddScopeToInjectedClass extends AddScopeToInjectedClass {
+        final List<String> scanned = new CopyOnWriteArrayList<>();
+        final List<String> visited = new CopyOnWriteArrayList<>();
+
+        @Override
+        public TreeVisitor<?, ExecutionContext> getScanner(Set<String> injectedTypes) {
+            return counting(super.getScanner(injectedTypes), scanned);
+        }
+
+        @Override
+        public TreeVisitor<?, ExecutionContext> getVisitor(Set<String> injectedTypes) {
+            return counting(super.getVisitor(injectedTypes), visited);
+        }
+
+        private static TreeVisitor<?, ExecutionContext> counting(TreeVisitor<?, ExecutionContext> visitor, List<String> sourcePaths) {
+            return new TreeVisitor<Tree, ExecutionContext>() {
+                @Override
+                public boolean isAcceptable(SourceFile sourceFile, ExecutionContext ctx) {
+                    return visitor.isAcceptable(sourceFile, ctx);
+                }
+
+                @Override
+                public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                    if (tree instanceof SourceFile) {
+                        sourcePaths.add(((SourceFile) tree).getSourcePath().toString());
+                    }
+                    return visitor.visit(tree, ctx, getCursor());
+                }
+            };
+        }
+    }
+}
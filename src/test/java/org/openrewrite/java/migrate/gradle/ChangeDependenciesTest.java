@@ -0,0 +1,164 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.gradle;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.gradle.marker.GradleProject;
+import org.openrewrite.maven.tree.Dependency;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.openrewrite.gradle.Assertions.buildGradle;
+import static org.openrewrite.gradle.toolingapi.Assertions.withToolingApi;
+
+class ChangeDependenciesTest implements RewriteTest {
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.beforeRecipe(withToolingApi())
+          .recipe(new ChangeDependencies(asList(
+            "javax.activation:javax.activation-api:jakarta.activation:jakarta.activation-api:2.1.0",
+            "javax.annotation:javax.annotation-api:jakarta.annotation:jakarta.annotation-api:2.1.1")));
+    }
+
+    @DocumentExample
+    @Test
+    void stringNotation() {
+        rewriteRun(
+          buildGradle(
+            //language=gradle
+            """
+              plugins {
+                  id "java-library"
+              }
+
+              repositories {
+                  mavenCentral()
+              }
+
+              dependencies {
+                  implementation "javax.activation:javax.activation-api:1.2.0"
+                  implementation "javax.annotation:javax.annotation-api:1.3.2"
+                  implementation "javax.inject:javax.inject:1"
+              }
+              """,
+            """
+              plugins {
+                  id "java-library"
+              }
+
+              repositories {
+                  mavenCentral()
+              }
+
+              dependencies {
+                  implementation "jakarta.activation:jakarta.activation-api:2.1.0"
+                  implementation "jakarta.annotation:jakarta.annotation-api:2.1.1"
+                  implementation "javax.inject:javax.inject:1"
+              }
+              """,
+            spec -> spec.afterRecipe(cu -> {
+                GradleProject gp = cu.getMarkers().findFirst(GradleProject.class).orElseThrow();
+                //noinspection DataFlowIssue
+                assertThat(gp.getConfiguration("implementation").getRequested())
+                  .extracting(Dependency::getGroupId, Dependency::getArtifactId)
+                  .containsExactlyInAnyOrder(
+                    tuple("jakarta.activation", "jakarta.activation-api"),
+                    tuple("jakarta.annotation", "jakarta.annotation-api"),
+                    tuple("javax.inject", "javax.inject"));
+            })
+          )
+        );
+    }
+
+    @Test
+    void mapNotation() {
+        rewriteRun(
+          buildGradle(
+            //language=gradle
+            """
+              plugins {
+                  id "java-library"
+              }
+
+              repositories {
+                  mavenCentral()
+              }
+
+              dependencies {
+                  implementation group: "javax.annotation", name: "javax.annotation-api", version: "1.3.2"
+                  compileOnly(group: "javax.activation", name: "javax.activation-api")
+              }
+              """,
+            """
+              plugins {
+                  id "java-library"
+              }
+
+              repositories {
+                  mavenCentral()
+              }
+
+              dependencies {
+                  implementation group: "jakarta.annotation", name: "jakarta.annotation-api", version: "2.1.1"
+                  compileOnly(group: "jakarta.activation", name: "jakarta.activation-api")
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void selectsHighestMatchingVersion() {
+        rewriteRun(
+          spec -> spec.recipe(new ChangeDependencies(singletonList(
+            "javax.annotation:javax.annotation-api:jakarta.annotation:jakarta.annotation-api:2.0.x"))),
+          buildGradle(
+            //language=gradle
+            """
+              plugins {
+                  id "java-library"
+              }
+
+              repositories {
+                  mavenCentral()
+              }
+
+              dependencies {
+                  implementation "javax.annotation:javax.annotation-api:1.3.2"
+              }
+              """,
+            """
+              plugins {
+                  id "java-library"
+              }
+
+              repositories {
+                  mavenCentral()
+              }
+
+              dependencies {
+                  implementation "jakarta.annotation:jakarta.annotation-api:2.0.0"
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.guava;
+
+import org.openrewrite.test.RecipeSpec;
+
+/**
+ * Runs the {@link PreferJavaUtilObjectsTest} cases against the indexed collection of the same recipes.
+ */
+class PreferJavaUtilObjectsIndexedTest extends PreferJavaUtilObjectsTest {
+    @Override
+    public void defaults(RecipeSpec spec) {
+        super.defaults(spec);
+        spec.recipe(new NoGuavaRefasterIndexed());
+    }
+}
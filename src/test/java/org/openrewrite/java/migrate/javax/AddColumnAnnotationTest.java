@@ -367,4 +367,59 @@ class AddColumnAnnotationTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void checksEveryTopLevelClassForEntity() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.List;
+
+              import javax.persistence.ElementCollection;
+              import javax.persistence.Entity;
+
+              class NotAnEntity {
+                  @ElementCollection
+                  private List<String> listofStrings;
+              }
+
+              @Entity
+              class ElementCollectionEntity {
+                  @ElementCollection
+                  private List<String> listofStrings;
+              }
+
+              class AlsoNotAnEntity {
+                  @ElementCollection
+                  private List<String> listofStrings;
+              }
+              """,
+            """
+              import java.util.List;
+
+              import javax.persistence.Column;
+              import javax.persistence.ElementCollection;
+              import javax.persistence.Entity;
+
+              class NotAnEntity {
+                  @ElementCollection
+                  private List<String> listofStrings;
+              }
+
+              @Entity
+              class ElementCollectionEntity {
+                  @Column(name = "element")
+                  @ElementCollection
+                  private List<String> listofStrings;
+              }
+
+              class AlsoNotAnEntity {
+                  @ElementCollection
+                  private List<String> listofStrings;
+              }
+              """
+          )
+        );
+    }
 }
@@ -0,0 +1,28 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.lang;
+
+import org.openrewrite.test.RecipeSpec;
+
+/**
+ * Runs the {@link StringRulesTest} cases against the indexed collection of the same recipes.
+ */
+class StringRulesIndexedTest extends StringRulesTest {
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new StringRulesIndexed());
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.lang.var;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.java.Assertions.javaVersion;
+
+class UseVarForAllTest extends VarBaseTest {
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new UseVarForAll())
+          .allSources(s -> s.markers(javaVersion(10)));
+    }
+
+    @Nested
+    class Applicable {
+        @DocumentExample
+        @Test
+        void allRulesInOnePass() {
+            //language=java
+            rewriteRun(
+              java(
+                """
+                  package com.example.app;
+
+                  import java.util.ArrayList;
+                  import java.util.List;
+
+                  class A {
+                    void m() {
+                        int i = 1;
+                        long l = 1;
+                        Object o = new Object();
+                        List<String> strs = new ArrayList<>();
+                        List<String> others = List.of("one", "two");
+                        byte b = 0;
+                    }
+                  }
+                  """, """
+                  package com.example.app;
+
+                  import java.util.ArrayList;
+                  import java.util.List;
+
+                  class A {
+                    void m() {
+                        var i = 1;
+                        var l = 1L;
+                        var o = new Object();
+                        var strs = new ArrayList<String>();
+                        var others = List.of("one", "two");
+                        byte b = 0;
+                    }
+                  }
+                  """
+              )
+            );
+        }
+
+        @Test
+        void insideInitializerAndLocalClass() {
+            //language=java
+            rewriteRun(
+              java(
+                """
+                  package com.example.app;
+
+                  class A {
+                    Object field = new Object();
+
+                    static {
+                        Object o = new Object();
+                        class Local {
+                            void m() {
+                                int i = 0;
+                            }
+                        }
+                    }
+                  }
+                  """, """
+                  package com.example.app;
+
+                  class A {
+                    Object field = new Object();
+
+                    static {
+                        var o = new Object();
+                        class Local {
+                            void m() {
+                                var i = 0;
+                            }
+                        }
+                    }
+                  }
+                  """
+              )
+            );
+        }
+    }
+}
@@ -137,6 +137,64 @@ class LombokValueToRecordTest implements RewriteTest {
         );
     }
 
+    @Test
+    void convertGetterCallsInFilesNotNamingTheRecordType() {
+        //language=java
+        rewriteRun(
+          s -> s.typeValidationOptions(TypeValidation.none()),
+          java(
+            """
+              package example;
+
+              import lombok.Value;
+
+              @Value
+              public class A {
+                 String test;
+              }
+              """,
+            """
+              package example;
+
+              public record A(
+                 String test) {
+              }
+              """
+          ),
+          java(
+            """
+              package example;
+
+              public class Holder {
+                  public A getA() {
+                      return new A("some value");
+                  }
+              }
+              """
+          ),
+          java(
+            """
+              package example;
+
+              public class UserOfHolder {
+                  public String getValue(Holder holder) {
+                      return holder.getA().getTest();
+                  }
+              }
+              """,
+            """
+              package example;
+
+              public class UserOfHolder {
+                  public String getValue(Holder holder) {
+                      return holder.getA().test();
+                  }
+              }
+              """
+          )
+        );
+    }
+
     @Test
     void onlyRemoveAnnotationFromRecords() {
         //language=java
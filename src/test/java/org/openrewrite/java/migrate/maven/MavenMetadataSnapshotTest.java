@@ -0,0 +1,57 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.maven;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.maven.tree.GroupArtifactVersion;
+import org.openrewrite.maven.tree.ResolvedGroupArtifactVersion;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MavenMetadataSnapshotTest {
+
+    private static final URI CENTRAL = URI.create("https://repo.maven.apache.org/maven2");
+    private static final URI INTERNAL = URI.create("https://repo.example.com/maven2/");
+
+    @Test
+    void resolvesOnlyFromSnapshotWhenOffline(@TempDir Path tempDir) throws Exception {
+        Path snapshot = tempDir.resolve("maven-metadata-snapshot.tsv");
+        Files.write(snapshot, asList(
+          "https://repo.maven.apache.org/maven2\torg.glassfish.jaxb:jaxb-runtime\t2.3.1,2.3.8",
+          "https://repo.example.com/maven2\torg.glassfish.jaxb:jaxb-runtime\t2.3.9-internal"));
+        ExecutionContext ctx = new InMemoryExecutionContext();
+
+        MavenMetadataSnapshot cache = MavenMetadataSnapshot.install(ctx, snapshot, true);
+
+        assertThat(MavenMetadataSnapshot.install(ctx, null, false)).isSameAs(cache);
+        assertThat(cache.getMavenMetadata(CENTRAL, new GroupArtifactVersion("org.glassfish.jaxb", "jaxb-runtime", null)))
+          .hasValueSatisfying(metadata -> assertThat(metadata.getVersioning().getVersions()).containsExactly("2.3.1", "2.3.8"));
+        assertThat(cache.getMavenMetadata(INTERNAL, new GroupArtifactVersion("org.glassfish.jaxb", "jaxb-runtime", null)))
+          .hasValueSatisfying(metadata -> assertThat(metadata.getVersioning().getVersions()).containsExactly("2.3.9-internal"));
+        assertThat(cache.getMavenMetadata(CENTRAL, new GroupArtifactVersion("com.sun.xml.bind", "jaxb-impl", null)))
+          .isEmpty();
+        assertThat(cache.getPom(new ResolvedGroupArtifactVersion(CENTRAL.toString(), "com.sun.xml.bind", "jaxb-impl", "2.3.8", null)))
+          .isEmpty();
+    }
+}
@@ -15,8 +15,10 @@
  */
 package org.openrewrite.java.migrate.search;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.openrewrite.java.migrate.table.DtoDataUseCounts;
 import org.openrewrite.java.migrate.table.DtoDataUses;
 import org.openrewrite.test.RewriteTest;
 
@@ -32,7 +34,7 @@ class FindDataUsedOnDtoTest implements RewriteTest {
     })
     void findDataUsedOnDto(String dtoType) {
         rewriteRun(
-          spec -> spec.recipe(new FindDataUsedOnDto(dtoType))
+          spec -> spec.recipe(new FindDataUsedOnDto(dtoType, null))
             .dataTable(DtoDataUses.Row.class, rows -> {
                 for (DtoDataUses.Row row : rows) {
                     assertThat(row.getSourcePath()).isEqualTo("Test.java");
@@ -65,4 +67,27 @@ class FindDataUsedOnDtoTest implements RewriteTest {
           )
         );
     }
+
+    @SuppressWarnings("ResultOfMethodCallIgnored")
+    @Test
+    void countsDataUsedOnDto() {
+        rewriteRun(
+          spec -> spec.recipe(new FindDataUsedOnDto("java.time.LocalDate", true))
+            .dataTable(DtoDataUseCounts.Row.class, rows -> assertThat(rows)
+              .containsExactly(new DtoDataUseCounts.Row("Test.java", "test", "dayOfMonth", 2))),
+          //language=java
+          java(
+            """
+              import java.time.LocalDate;
+
+              class Test {
+                  void test(LocalDate date) {
+                        date.getDayOfMonth();
+                        date.getDayOfMonth();
+                  }
+              }
+              """
+          )
+        );
+    }
 }
@@ -16,16 +16,19 @@
 package org.openrewrite.java.migrate.search;
 
 import org.junit.jupiter.api.Test;
+import org.openrewrite.java.migrate.table.MethodCallCounts;
+import org.openrewrite.java.table.MethodCalls;
 import org.openrewrite.test.RecipeSpec;
 import org.openrewrite.test.RewriteTest;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.openrewrite.java.Assertions.java;
 
 class FindInternalJavaxApisTest implements RewriteTest {
 
     @Override
     public void defaults(RecipeSpec spec) {
-        spec.recipe(new FindInternalJavaxApis(null));
+        spec.recipe(new FindInternalJavaxApis(null, null, null));
     }
 
     @Test
@@ -107,4 +110,81 @@ class FindInternalJavaxApisTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void countsCallsInAggregateMode() {
+        //language=java
+        rewriteRun(
+          spec -> spec.recipe(new FindInternalJavaxApis(null, true, null))
+            .dataTable(MethodCallCounts.Row.class, rows -> assertThat(rows)
+              .containsExactly(new MethodCallCounts.Row("org.openrewrite.Api", "test", 2))),
+          java(
+            """
+              package org.openrewrite;
+              
+              interface Api {
+                  void test(javax.xml.stream.StreamFilter sf);
+              }
+              """
+          ),
+          java(
+            """
+              package org.openrewrite;
+              
+              import javax.xml.stream.StreamFilter;
+              
+              class Consumer {
+                  void test(Api api, StreamFilter sf) {
+                      api.test(sf);
+                      api.test(null);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void leavesOutPrintedCalls() {
+        //language=java
+        rewriteRun(
+          spec -> spec.recipe(new FindInternalJavaxApis(null, null, false))
+            .dataTable(MethodCalls.Row.class, rows -> assertThat(rows)
+              .containsExactly(new MethodCalls.Row("org/openrewrite/Consumer.java", "",
+                "org.openrewrite.Api", "test", "javax.xml.stream.StreamFilter"))),
+          java(
+            """
+              package org.openrewrite;
+              
+              interface Api {
+                  void test(javax.xml.stream.StreamFilter sf);
+              }
+              """
+          ),
+          java(
+            """
+              package org.openrewrite;
+              
+              import javax.xml.stream.StreamFilter;
+              
+              class Consumer {
+                  void test(Api api, StreamFilter sf) {
+                      api.test(sf);
+                  }
+              }
+              """,
+            """
+              package org.openrewrite;
+              
+              import javax.xml.stream.StreamFilter;
+              
+              class Consumer {
+                  void test(Api api, StreamFilter sf) {
+                      /*~~>*/api.test(sf);
+                  }
+              }
+              """
+          )
+        );
+    }
 }
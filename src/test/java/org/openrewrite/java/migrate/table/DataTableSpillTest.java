@@ -0,0 +1,97 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.table;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.java.migrate.FindAndReplaceLiterals;
+import org.openrewrite.test.RewriteTest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.test.SourceSpecs.text;
+
+class DataTableSpillTest implements RewriteTest {
+
+    @Test
+    void streamsRowsToChunksOnDisk(@TempDir Path tempDir) throws IOException {
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        DtoDataUses dtoDataUses = new DtoDataUses(Recipe.noop());
+
+        try (DataTableSpill ignored = DataTableSpill.install(ctx, tempDir, 2_000)) {
+            for (int i = 0; i < 4_500; i++) {
+                dtoDataUses.insertRow(ctx, new DtoDataUses.Row("A.java", "m" + i, "name, \"quoted\""));
+            }
+        }
+
+        List<Path> chunks = chunks(tempDir.resolve(dtoDataUses.getName()));
+        assertThat(chunks).extracting(p -> p.getFileName().toString())
+          .containsExactly("00000.csv.gz", "00001.csv.gz", "00002.csv.gz");
+        List<String> lines = lines(chunks);
+        assertThat(lines).hasSize(4_500 + chunks.size());
+        assertThat(lines.get(0)).isEqualTo("sourcePath,methodName,field");
+        assertThat(lines.get(1)).isEqualTo("A.java,m0,\"name, \"\"quoted\"\"\"");
+    }
+
+    @Test
+    void writesPartialBatchWhenRunCompletes(@TempDir Path tempDir) throws IOException {
+        rewriteRun(
+          spec -> spec.recipes(
+            new SpillDataTablesToDisk(tempDir.toString(), null),
+            new FindAndReplaceLiterals(singletonList("javax."), singletonList("jakarta."), null, null)),
+          text(
+            "javax.inject.Inject",
+            "jakarta.inject.Inject",
+            spec -> spec.path("A.txt")
+          )
+        );
+
+        assertThat(lines(chunks(tempDir.resolve(TextReplacements.class.getName()))))
+          .containsExactly("sourcePath,find,replace,hits", "A.txt,javax.,jakarta.,1");
+    }
+
+    private static List<Path> chunks(Path dataTable) throws IOException {
+        try (Stream<Path> files = Files.list(dataTable)) {
+            return files.sorted().collect(toList());
+        }
+    }
+
+    private static List<String> lines(List<Path> chunks) throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (Path chunk : chunks) {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+              new GZIPInputStream(Files.newInputStream(chunk)), StandardCharsets.UTF_8))) {
+                reader.lines().forEach(lines::add);
+            }
+        }
+        return lines;
+    }
+}